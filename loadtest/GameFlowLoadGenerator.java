@@ -0,0 +1,400 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GameFlowLoadGenerator {
+
+    private static final String CSRF = "GET /api/security/csrf-token";
+    private static final String SIGNUP = "POST /api/auth/signup";
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String CREATE_CHARACTER = "POST /api/characters";
+    private static final String ENTER = "POST /api/game/enter/station/{stationName}/line/{lineNumber}";
+    private static final String CHOICE = "POST /api/game/choice/{optionId}";
+    private static final String QUIT = "POST /api/game/quit";
+
+    private static final List<String> ENDPOINT_ORDER = List.of(CSRF, SIGNUP, LOGIN, CREATE_CHARACTER, ENTER, CHOICE, QUIT);
+
+    private static final Pattern CSRF_COOKIE = Pattern.compile("XSRF-TOKEN=([^;]+)");
+    private static final Pattern CSRF_BODY = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern OPTION_ID = Pattern.compile("\"optionId\"\\s*:\\s*(\\d+)");
+    private static final Pattern GAME_OVER = Pattern.compile("\"(?:isGameOver|gameOver)\"\\s*:\\s*true");
+    private static final Pattern ACTION = Pattern.compile("\"action\"\\s*:\\s*\"([A-Z_]+)\"");
+
+    private final Config config;
+    private final HttpClient httpClient;
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicInteger completedPlayers = new AtomicInteger(0);
+    private final AtomicInteger failedPlayers = new AtomicInteger(0);
+    private final Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+
+    private GameFlowLoadGenerator(Config config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ENDPOINT_ORDER.forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.parse(args);
+        GameFlowLoadGenerator generator = new GameFlowLoadGenerator(config);
+
+        System.out.printf("대상: %s, 역: %s %d호선, 플레이어: %d명, 동시성: %d, 워밍업: %d명%n",
+                config.baseUrl, config.stationName, config.lineNumber, config.players,
+                config.concurrency, config.warmupPlayers);
+
+        if (config.warmupPlayers > 0) {
+            generator.runPlayers("warmup", config.warmupPlayers);
+            generator.reset();
+        }
+
+        long startedAt = System.nanoTime();
+        generator.runPlayers("run", config.players);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Report report = generator.buildReport(elapsedNanos);
+        report.print();
+
+        if (config.reportPath != null) {
+            Files.writeString(config.reportPath, report.toJson(), StandardCharsets.UTF_8);
+            System.out.printf("결과 저장: %s%n", config.reportPath);
+        }
+
+        if (config.baselinePath != null) {
+            report.printComparison(Report.parseP95(Files.readString(config.baselinePath, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private void runPlayers(String phase, int playerCount) throws InterruptedException {
+        Semaphore permits = new Semaphore(config.concurrency);
+        String runId = phase.charAt(0) + Long.toString(System.currentTimeMillis() % 1_679_616L, 36);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < playerCount; i++) {
+                int playerIndex = i;
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        playOneSession(runId, playerIndex);
+                        completedPlayers.incrementAndGet();
+                    } catch (Exception e) {
+                        failedPlayers.incrementAndGet();
+                        outcomes.computeIfAbsent("ERROR " + e.getMessage(), key -> new AtomicInteger()).incrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void reset() {
+        recorders.replaceAll((endpoint, recorder) -> new LatencyRecorder());
+        completedPlayers.set(0);
+        failedPlayers.set(0);
+        outcomes.clear();
+    }
+
+    private void playOneSession(String runId, int playerIndex) throws IOException, InterruptedException {
+        String email = "lt-" + runId + "-" + playerIndex + "@loadtest.local";
+        String password = "loadtest-password";
+
+        String csrfToken = fetchCsrfToken();
+
+        call(SIGNUP, "/api/auth/signup", null, csrfToken,
+                "{\"name\":\"부하테스트" + playerIndex + "\",\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+
+        String loginBody = call(LOGIN, "/api/auth/login", null, csrfToken,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+        String token = extract(ACCESS_TOKEN, loginBody)
+                .orElseThrow(() -> new IllegalStateException("accessToken 없음"));
+
+        call(CREATE_CHARACTER, "/api/characters", token, csrfToken,
+                "{\"charName\":\"lt" + runId + Integer.toString(playerIndex, 36) + "\"}");
+
+        String enterPath = "/api/game/enter/station/"
+                + URLEncoder.encode(config.stationName, StandardCharsets.UTF_8).replace("+", "%20")
+                + "/line/" + config.lineNumber;
+        String enterBody = call(ENTER, enterPath, token, csrfToken, null);
+
+        String action = extract(ACTION, enterBody).orElse("UNKNOWN");
+        outcomes.computeIfAbsent("enter " + action, key -> new AtomicInteger()).incrementAndGet();
+
+        List<Long> optionIds = extractAll(OPTION_ID, enterBody);
+        if (optionIds.isEmpty()) {
+            return;
+        }
+
+        boolean gameOver = false;
+
+        for (int choice = 0; choice < config.maxChoices && !gameOver; choice++) {
+            long optionId = optionIds.get(ThreadLocalRandom.current().nextInt(optionIds.size()));
+            String choiceBody = call(CHOICE, "/api/game/choice/" + optionId, token, csrfToken, null);
+
+            gameOver = GAME_OVER.matcher(choiceBody).find();
+            optionIds = extractAll(OPTION_ID, choiceBody);
+            if (!gameOver && optionIds.isEmpty()) {
+                break;
+            }
+        }
+
+        if (gameOver) {
+            outcomes.computeIfAbsent("game over", key -> new AtomicInteger()).incrementAndGet();
+            return;
+        }
+
+        call(QUIT, "/api/game/quit", token, csrfToken, null);
+        outcomes.computeIfAbsent("quit", key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private String fetchCsrfToken() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl + "/api/security/csrf-token"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = send(CSRF, request);
+
+        return response.headers().allValues("Set-Cookie").stream()
+                .map(CSRF_COOKIE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .findFirst()
+                .or(() -> extract(CSRF_BODY, response.body()))
+                .orElseThrow(() -> new IllegalStateException("CSRF 토큰 없음"));
+    }
+
+    private String call(String endpoint, String path, String token, String csrfToken, String jsonBody)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Cookie", "XSRF-TOKEN=" + csrfToken)
+                .header("X-XSRF-TOKEN", csrfToken)
+                .POST(jsonBody != null
+                        ? HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8)
+                        : HttpRequest.BodyPublishers.noBody());
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        return send(endpoint, builder.build()).body();
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request)
+            throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request,
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        boolean success = response.statusCode() / 100 == 2;
+        recorders.get(endpoint).record(elapsedNanos, success);
+
+        if (!success) {
+            throw new IllegalStateException(endpoint + " -> HTTP " + response.statusCode());
+        }
+
+        return response;
+    }
+
+    private static java.util.Optional<String> extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? java.util.Optional.of(matcher.group(1)) : java.util.Optional.empty();
+    }
+
+    private static List<Long> extractAll(Pattern pattern, String body) {
+        List<Long> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(body);
+        while (matcher.find()) {
+            values.add(Long.parseLong(matcher.group(1)));
+        }
+        return values;
+    }
+
+    private Report buildReport(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+        for (String endpoint : ENDPOINT_ORDER) {
+            stats.put(endpoint, recorders.get(endpoint).summarize(elapsedSeconds));
+        }
+
+        Map<String, Integer> outcomeCounts = new LinkedHashMap<>();
+        outcomes.forEach((key, count) -> outcomeCounts.put(key, count.get()));
+
+        return new Report(elapsedSeconds, completedPlayers.get(), failedPlayers.get(), stats, outcomeCounts);
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void record(long elapsedNanos, boolean success) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+
+            return new EndpointStats(
+                    size,
+                    errors,
+                    elapsedSeconds > 0 ? size / elapsedSeconds : 0.0,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    size > 0 ? sorted[size - 1] / 1_000_000.0 : 0.0);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    private record EndpointStats(int requests, int errors, double throughput,
+                                 double p50, double p95, double p99, double max) {
+    }
+
+    private record Report(double elapsedSeconds, int completedPlayers, int failedPlayers,
+                          Map<String, EndpointStats> endpoints, Map<String, Integer> outcomes) {
+
+        private static final Pattern BASELINE_ENTRY = Pattern.compile(
+                "\"endpoint\"\\s*:\\s*\"([^\"]+)\"[^}]*?\"p95Ms\"\\s*:\\s*([0-9.]+)");
+
+        void print() {
+            System.out.printf("%n경과 시간: %.1fs, 완료 플레이어: %d, 실패 플레이어: %d%n",
+                    elapsedSeconds, completedPlayers, failedPlayers);
+            System.out.printf("%-62s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+            endpoints.forEach((endpoint, stats) -> System.out.printf(
+                    "%-62s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50(), stats.p95(), stats.p99(), stats.max()));
+
+            if (!outcomes.isEmpty()) {
+                System.out.println();
+                outcomes.forEach((outcome, count) -> System.out.printf("  %-60s %d%n", outcome, count));
+            }
+        }
+
+        void printComparison(Map<String, Double> baselineP95) {
+            System.out.printf("%n%-62s %12s %12s %9s%n", "endpoint", "base p95", "p95", "delta");
+
+            endpoints.forEach((endpoint, stats) -> {
+                Double base = baselineP95.get(endpoint);
+                if (base == null || base == 0.0) {
+                    return;
+                }
+                System.out.printf("%-62s %12.2f %12.2f %+8.1f%%%n",
+                        endpoint, base, stats.p95(), (stats.p95() - base) / base * 100);
+            });
+        }
+
+        String toJson() {
+            StringBuilder json = new StringBuilder();
+            json.append("{\n");
+            json.append(String.format("  \"elapsedSeconds\": %.3f,%n", elapsedSeconds));
+            json.append(String.format("  \"completedPlayers\": %d,%n", completedPlayers));
+            json.append(String.format("  \"failedPlayers\": %d,%n", failedPlayers));
+            json.append("  \"endpoints\": [\n");
+
+            List<String> entries = new ArrayList<>();
+            endpoints.forEach((endpoint, stats) -> entries.add(String.format(
+                    "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughput\": %.3f, "
+                            + "\"p50Ms\": %.3f, \"p95Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}",
+                    endpoint, stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50(), stats.p95(), stats.p99(), stats.max())));
+
+            json.append(String.join(",\n", entries));
+            json.append("\n  ]\n}\n");
+            return json.toString();
+        }
+
+        static Map<String, Double> parseP95(String json) {
+            Map<String, Double> p95 = new HashMap<>();
+            Matcher matcher = BASELINE_ENTRY.matcher(json);
+            while (matcher.find()) {
+                p95.put(matcher.group(1), Double.parseDouble(matcher.group(2)));
+            }
+            return p95;
+        }
+    }
+
+    private static final class Config {
+        private String baseUrl = "http://localhost:18080";
+        private String stationName = "옥수";
+        private int lineNumber = 3;
+        private int players = 2000;
+        private int concurrency = 100;
+        private int warmupPlayers = 100;
+        private int maxChoices = 20;
+        private Path reportPath;
+        private Path baselinePath;
+
+        static Config parse(String[] args) {
+            Config config = new Config();
+
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                String value = i + 1 < args.length ? args[++i] : null;
+                if (value == null) {
+                    throw new IllegalArgumentException("값이 없는 옵션: " + option);
+                }
+
+                switch (option) {
+                    case "--base-url" -> config.baseUrl = value.replaceAll("/+$", "");
+                    case "--station" -> config.stationName = value;
+                    case "--line" -> config.lineNumber = Integer.parseInt(value);
+                    case "--players" -> config.players = Integer.parseInt(value);
+                    case "--concurrency" -> config.concurrency = Integer.parseInt(value);
+                    case "--warmup" -> config.warmupPlayers = Integer.parseInt(value);
+                    case "--max-choices" -> config.maxChoices = Integer.parseInt(value);
+                    case "--report" -> config.reportPath = Path.of(value);
+                    case "--baseline" -> config.baselinePath = Path.of(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + option);
+                }
+            }
+
+            return config;
+        }
+    }
+}
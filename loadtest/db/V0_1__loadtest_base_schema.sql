@@ -0,0 +1,322 @@
+-- 부하 테스트 전용 기본 스키마: 운영 DB의 Flyway 기준선(V001 이전) 스냅샷이며 이후 마이그레이션은 Flyway가 그대로 적용한다
+-- 이 파일은 고정된 기준선이므로 엔티티 변경 시 수정하지 않고 src/main/resources/db/migration에 새 마이그레이션을 추가한다
+-- 기준선과 마이그레이션이 엔티티와 어긋나면 부하 테스트 환경이 ddl-auto=validate에서 기동에 실패한다
+
+CREATE SEQUENCE loge_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE logo_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE now_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ops_loga_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ops_logb_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ops_logd_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ops_logx_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE options_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE page_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE stations_tr_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE story_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    user_id BIGSERIAL PRIMARY KEY,
+    user_name VARCHAR(255) NOT NULL,
+    user_password VARCHAR(255) NOT NULL,
+    user_email VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    role VARCHAR(255) NOT NULL
+);
+CREATE INDEX idx_user_email ON users(user_email);
+CREATE INDEX idx_user_role ON users(role);
+CREATE INDEX idx_user_deleted_at ON users(deleted_at);
+CREATE INDEX idx_user_active ON users(deleted_at, created_at DESC);
+
+CREATE TABLE refresh_token (
+    token_id BIGSERIAL PRIMARY KEY,
+    token_value VARCHAR(255) NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL REFERENCES users(user_id),
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+CREATE UNIQUE INDEX idx_refresh_token_value ON refresh_token(token_value);
+CREATE INDEX idx_refresh_token_user_id ON refresh_token(user_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token(expires_at);
+CREATE INDEX idx_refresh_token_user_valid ON refresh_token(user_id, expires_at);
+
+CREATE TABLE "char" (
+    char_id BIGSERIAL PRIMARY KEY,
+    char_name VARCHAR(255) NOT NULL,
+    char_health INTEGER NOT NULL,
+    char_sanity INTEGER NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    user_id BIGINT NOT NULL REFERENCES users(user_id)
+);
+
+CREATE TABLE post (
+    post_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT REFERENCES users(user_id),
+    post_title VARCHAR(255),
+    post_contents TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+CREATE INDEX idx_post_created_at ON post(created_at DESC);
+CREATE INDEX idx_post_user_id ON post(user_id);
+CREATE INDEX idx_post_deleted_at ON post(deleted_at);
+CREATE INDEX idx_post_active_list ON post(deleted_at, created_at DESC);
+
+CREATE TABLE post_stats (
+    post_id BIGINT PRIMARY KEY REFERENCES post(post_id),
+    view_count BIGINT NOT NULL,
+    like_count BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE comment (
+    cmt_id BIGSERIAL PRIMARY KEY,
+    post_id BIGINT REFERENCES post(post_id),
+    user_id BIGINT REFERENCES users(user_id),
+    cmt_contents TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6)
+);
+CREATE INDEX idx_comment_post_id ON comment(post_id);
+CREATE INDEX idx_comment_created_at ON comment(created_at DESC);
+CREATE INDEX idx_comment_user_id ON comment(user_id);
+CREATE INDEX idx_comment_deleted_at ON comment(deleted_at);
+CREATE INDEX idx_comment_active_list ON comment(post_id, deleted_at, created_at);
+
+CREATE TABLE comment_like (
+    like_id BIGSERIAL PRIMARY KEY,
+    cmt_id BIGINT NOT NULL REFERENCES comment(cmt_id),
+    user_id BIGINT NOT NULL REFERENCES users(user_id),
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_comment_like_user UNIQUE (cmt_id, user_id)
+);
+CREATE INDEX idx_comment_like_comment ON comment_like(cmt_id);
+CREATE INDEX idx_comment_like_user ON comment_like(user_id);
+
+CREATE TABLE sta (
+    sta_id BIGSERIAL PRIMARY KEY,
+    api_station_id VARCHAR(255) UNIQUE,
+    sta_name VARCHAR(255) NOT NULL,
+    sta_line INTEGER NOT NULL
+);
+CREATE UNIQUE INDEX idx_station_api_id ON sta(api_station_id);
+CREATE INDEX idx_station_line ON sta(sta_line);
+CREATE INDEX idx_station_name ON sta(sta_name);
+CREATE INDEX idx_station_line_name ON sta(sta_line, sta_name);
+
+CREATE TABLE tra (
+    tr_id BIGINT PRIMARY KEY,
+    sta_id BIGINT REFERENCES sta(sta_id),
+    tr_day VARCHAR(255),
+    tr_time VARCHAR(255),
+    tr_traffic VARCHAR(255)
+);
+
+CREATE TABLE sto (
+    sto_id BIGINT PRIMARY KEY,
+    sta_id BIGINT REFERENCES sta(sta_id),
+    sto_title VARCHAR(255),
+    sto_length INTEGER NOT NULL,
+    sto_description TEXT,
+    sto_theme VARCHAR(255),
+    sto_keywords TEXT
+);
+CREATE INDEX idx_story_station_id ON sto(sta_id);
+CREATE INDEX idx_story_theme ON sto(sto_theme);
+CREATE INDEX idx_story_length ON sto(sto_length);
+
+CREATE TABLE page (
+    page_id BIGINT PRIMARY KEY,
+    sto_id BIGINT NOT NULL,
+    page_number BIGINT NOT NULL,
+    page_contents TEXT
+);
+
+CREATE TABLE options (
+    opt_id BIGINT PRIMARY KEY,
+    page_id BIGINT NOT NULL,
+    opt_contents VARCHAR(255),
+    opt_effect VARCHAR(255),
+    opt_amount INTEGER NOT NULL,
+    next_page_id BIGINT,
+    condition_type VARCHAR(255),
+    condition_value INTEGER
+);
+
+CREATE TABLE now (
+    now_id BIGINT PRIMARY KEY,
+    char_id BIGINT REFERENCES "char"(char_id),
+    page_id BIGINT REFERENCES page(page_id),
+    created_at TIMESTAMP(6),
+    page_entered_at TIMESTAMP(6)
+);
+
+CREATE TABLE loge (
+    loge_id BIGINT PRIMARY KEY,
+    char_id BIGINT REFERENCES "char"(char_id),
+    sto_id BIGINT REFERENCES sto(sto_id),
+    loge_result VARCHAR(255),
+    loge_ending INTEGER NOT NULL,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE log_ops (
+    logo_id BIGINT PRIMARY KEY,
+    char_id BIGINT REFERENCES "char"(char_id),
+    opt_id BIGINT REFERENCES options(opt_id),
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE ops_loga (
+    loga_id BIGINT PRIMARY KEY,
+    user_id BIGINT REFERENCES users(user_id),
+    loga_address VARCHAR(255),
+    loga_agent VARCHAR(255),
+    loga_path TEXT,
+    loga_method VARCHAR(255),
+    loga_status VARCHAR(255),
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE ops_logb (
+    logb_id BIGINT PRIMARY KEY,
+    loge_id BIGINT REFERENCES loge(loge_id),
+    char_id BIGINT REFERENCES "char"(char_id),
+    logb_page BIGINT NOT NULL,
+    lob_opt BIGINT NOT NULL,
+    logb_dur BIGINT NOT NULL,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE ops_logd (
+    logd_id BIGINT PRIMARY KEY,
+    logd_date TIMESTAMP(6),
+    logd_total BIGINT NOT NULL,
+    logd_unique BIGINT NOT NULL,
+    logd_login BIGINT NOT NULL,
+    logd_counts BIGINT NOT NULL,
+    logd_success BIGINT NOT NULL,
+    logd_fail BIGINT NOT NULL
+);
+
+CREATE TABLE ops_logx (
+    logx_id BIGINT PRIMARY KEY,
+    logx_service VARCHAR(255),
+    logx_message TEXT,
+    logx_stktrace TEXT,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE multiplayer_room (
+    room_id BIGSERIAL PRIMARY KEY,
+    station_id BIGINT NOT NULL REFERENCES sta(sta_id),
+    room_name VARCHAR(100) NOT NULL,
+    max_players INTEGER NOT NULL,
+    current_phase INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    owner_user_id BIGINT NOT NULL REFERENCES users(user_id),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+CREATE INDEX idx_room_station ON multiplayer_room(station_id);
+CREATE INDEX idx_room_status ON multiplayer_room(status);
+CREATE INDEX idx_room_owner ON multiplayer_room(owner_user_id);
+
+CREATE TABLE room_participant (
+    participant_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES multiplayer_room(room_id),
+    user_id BIGINT NOT NULL REFERENCES users(user_id),
+    character_id BIGINT NOT NULL REFERENCES "char"(char_id),
+    is_active BOOLEAN NOT NULL,
+    hp INTEGER NOT NULL,
+    sanity INTEGER NOT NULL,
+    joined_at TIMESTAMP(6),
+    left_at TIMESTAMP(6),
+    CONSTRAINT uk_room_user UNIQUE (room_id, user_id)
+);
+CREATE INDEX idx_participant_room ON room_participant(room_id);
+CREATE INDEX idx_participant_user ON room_participant(user_id);
+
+CREATE TABLE room_vote (
+    vote_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES multiplayer_room(room_id),
+    vote_type VARCHAR(20) NOT NULL CONSTRAINT room_vote_vote_type_check CHECK (vote_type IN ('KICK')),
+    target_user_id BIGINT NOT NULL REFERENCES users(user_id),
+    initiated_by_user_id BIGINT NOT NULL REFERENCES users(user_id),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6),
+    expires_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_vote_room_status ON room_vote(room_id, status);
+
+CREATE TABLE vote_ballot (
+    ballot_id BIGSERIAL PRIMARY KEY,
+    vote_id BIGINT NOT NULL REFERENCES room_vote(vote_id),
+    user_id BIGINT NOT NULL REFERENCES users(user_id),
+    vote BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_vote_user UNIQUE (vote_id, user_id)
+);
+
+CREATE TABLE chat_message (
+    message_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES multiplayer_room(room_id),
+    user_id BIGINT REFERENCES users(user_id),
+    message_type VARCHAR(20) NOT NULL,
+    content TEXT NOT NULL,
+    metadata JSONB,
+    created_at TIMESTAMP(6)
+);
+CREATE INDEX idx_message_room_time ON chat_message(room_id, created_at DESC);
+CREATE INDEX idx_message_room_type ON chat_message(room_id, message_type);
+
+CREATE TABLE multiplayer_story_state (
+    state_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES multiplayer_room(room_id),
+    phase INTEGER NOT NULL,
+    llm_response TEXT NOT NULL,
+    summary TEXT,
+    context JSONB,
+    created_at TIMESTAMP(6)
+);
+CREATE INDEX idx_story_room_phase ON multiplayer_story_state(room_id, phase DESC);
+
+CREATE TABLE user_story_stats (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id),
+    total_participations INTEGER NOT NULL,
+    total_completions INTEGER NOT NULL,
+    total_deaths INTEGER NOT NULL,
+    total_kicks INTEGER NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+CREATE INDEX idx_stats_completions ON user_story_stats(total_completions DESC);
+
+CREATE TABLE story_completion (
+    completion_id BIGSERIAL PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES multiplayer_room(room_id),
+    station_id BIGINT NOT NULL,
+    total_phases INTEGER NOT NULL,
+    started_at TIMESTAMP(6) NOT NULL,
+    completed_at TIMESTAMP(6),
+    CONSTRAINT uk_completion_room UNIQUE (room_id)
+);
+CREATE INDEX idx_completion_station ON story_completion(station_id);
+CREATE INDEX idx_completion_date ON story_completion(completed_at DESC);
+
+CREATE TABLE completion_participant (
+    participant_id BIGSERIAL PRIMARY KEY,
+    completion_id BIGINT NOT NULL REFERENCES story_completion(completion_id),
+    user_id BIGINT NOT NULL REFERENCES users(user_id),
+    character_id BIGINT NOT NULL REFERENCES "char"(char_id),
+    final_hp INTEGER NOT NULL,
+    final_sanity INTEGER NOT NULL,
+    survived BOOLEAN NOT NULL,
+    CONSTRAINT uk_completion_user UNIQUE (completion_id, user_id)
+);
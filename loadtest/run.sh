@@ -0,0 +1,35 @@
+#!/bin/bash
+# 사용법: ./loadtest/run.sh [--players 2000] [--concurrency 100] [--report after.json] [--baseline before.json]
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+BASE_URL="${LOADTEST_BASE_URL:-http://localhost:18080}"
+KEEP_ENV="${LOADTEST_KEEP_ENV:-false}"
+
+cleanup() {
+  if [ "$KEEP_ENV" != "true" ]; then
+    docker compose down -v >/dev/null 2>&1 || true
+  fi
+}
+trap cleanup EXIT
+
+echo "부하 테스트 환경 시작..."
+docker compose up -d --build
+
+echo "애플리케이션 준비 대기 중..."
+# 공개 API인 스토리 목록에 DataInitializer 시드가 보이면 마이그레이션과 초기 데이터까지 끝난 상태
+for i in {1..60}; do
+  if curl -sf "$BASE_URL/api/stories" 2>/dev/null | grep -q '"storyId"'; then
+    echo "✓ 애플리케이션 준비 완료"
+    break
+  fi
+  if [ "$i" -eq 60 ]; then
+    echo "애플리케이션이 준비되지 않았습니다."
+    docker compose logs --tail=100 backend
+    exit 1
+  fi
+  sleep 5
+done
+
+java GameFlowLoadGenerator.java --base-url "$BASE_URL" "$@"
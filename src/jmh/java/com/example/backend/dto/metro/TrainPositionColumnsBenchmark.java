@@ -0,0 +1,181 @@
+package com.example.backend.dto.metro;
+
+import com.example.backend.service.MetroStationFilter;
+import com.example.backend.service.StationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainPositionColumnsBenchmark {
+
+    private static final List<String> LINES = List.of("1", "2", "3", "4");
+    private static final int STATIONS_PER_LINE = 56;
+
+    @Param({"300", "1200"})
+    private int trainCount;
+
+    private MetroStationFilter stationFilter;
+    private List<TrainPosition> positions;
+    private List<TrainPosition> previousPositions;
+    private TrainPositionColumns columns;
+    private TrainPositionColumns previousColumns;
+    private int[] previousRows;
+
+    @Setup
+    public void setUp() {
+        stationFilter = new MetroStationFilter(new StationRegistry(null));
+        positions = generate(0);
+        previousPositions = generate(1);
+        columns = TrainPositionColumns.of(positions);
+        previousColumns = TrainPositionColumns.of(previousPositions);
+        previousRows = TrainPositionDiff.uniqueRows(previousColumns);
+
+        verifyEquivalence();
+    }
+
+    @Benchmark
+    public Map<String, List<TrainPosition>> partitionObjects() {
+        Map<String, List<TrainPosition>> positionsByLine = new LinkedHashMap<>();
+        List<TrainPosition> filtered = new ArrayList<>();
+        for (String line : LINES) {
+            List<TrainPosition> linePositions = stationFilter.filterLineStations(positions, Integer.valueOf(line));
+            positionsByLine.put(line, linePositions);
+            filtered.addAll(linePositions);
+        }
+        stationFilter.generateFilteringStats(positions, filtered);
+        return positionsByLine;
+    }
+
+    @Benchmark
+    public MetroStationFilter.LinePartition partitionColumns() {
+        return stationFilter.partitionByLine(columns, LINES);
+    }
+
+    @Benchmark
+    public TrainPositionDiff diffObjects() {
+        Map<String, TrainPosition> previous = byTrainKey(previousPositions);
+        Map<String, TrainPosition> current = byTrainKey(positions);
+
+        List<TrainPosition> added = new ArrayList<>();
+        List<TrainPosition> moved = new ArrayList<>();
+        List<TrainPosition> removed = new ArrayList<>();
+        current.forEach((key, position) -> {
+            TrainPosition before = previous.get(key);
+            if (before == null) {
+                added.add(position);
+            } else if (!Objects.equals(before.getStationId(), position.getStationId())
+                    || !Objects.equals(before.getStationName(), position.getStationName())
+                    || !Objects.equals(before.getDirection(), position.getDirection())) {
+                moved.add(position);
+            }
+        });
+        previous.forEach((key, position) -> {
+            if (!current.containsKey(key)) {
+                removed.add(position);
+            }
+        });
+        return new TrainPositionDiff(added, moved, removed);
+    }
+
+    @Benchmark
+    public TrainPositionDiff diffColumns() {
+        return TrainPositionDiff.between(previousColumns, previousRows,
+                columns, TrainPositionDiff.uniqueRows(columns));
+    }
+
+    @Benchmark
+    public List<TrainPosition> materializeFromColumns() {
+        return columns.toPositions();
+    }
+
+    @Benchmark
+    public TrainPositionColumns buildColumnsFromObjects() {
+        return TrainPositionColumns.of(positions);
+    }
+
+    private void verifyEquivalence() {
+        Map<String, TrainPositionColumns> partitioned = partitionColumns().getPositionsByLine();
+        partitionObjects().forEach((line, linePositions) -> {
+            if (linePositions.size() != partitioned.get(line).size()) {
+                throw new IllegalStateException(line + "호선 분할 결과 불일치");
+            }
+        });
+
+        TrainPositionDiff objects = diffObjects();
+        TrainPositionDiff columnar = diffColumns();
+        if (!keysOf(objects.getAdded()).equals(keysOf(columnar.getAdded()))
+                || !keysOf(objects.getMoved()).equals(keysOf(columnar.getMoved()))
+                || !keysOf(objects.getRemoved()).equals(keysOf(columnar.getRemoved()))) {
+            throw new IllegalStateException("위치 변경 비교 결과 불일치");
+        }
+    }
+
+    private static Map<String, TrainPosition> byTrainKey(List<TrainPosition> trains) {
+        Map<String, TrainPosition> byKey = new HashMap<>();
+        for (TrainPosition train : trains) {
+            byKey.put(keyOf(train), train);
+        }
+        return byKey;
+    }
+
+    private static Set<String> keysOf(List<TrainPosition> trains) {
+        Set<String> keys = new TreeSet<>();
+        trains.forEach(train -> keys.add(keyOf(train)));
+        return keys;
+    }
+
+    private static String keyOf(TrainPosition train) {
+        return train.getLineNumber() + ":" + train.getTrainId();
+    }
+
+    private List<TrainPosition> generate(int shift) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TrainPosition> generated = new ArrayList<>(trainCount);
+        for (int i = 0; i < trainCount; i++) {
+            if (i % 11 == shift) {
+                continue;
+            }
+
+            int line = i % LINES.size() + 1;
+            int station = (i / LINES.size() + (i % 3 == 0 ? shift : 0)) % STATIONS_PER_LINE + 1;
+            long stationId = 1_000_000_000L + line * 1_000_000L + line * 100L + station;
+
+            generated.add(TrainPosition.builder()
+                    .trainId(String.format("%d%04d", line, i))
+                    .lineNumber(line)
+                    .stationId(String.valueOf(stationId))
+                    .stationName("역" + stationId)
+                    .direction(i % 2 == 0 ? "up" : "down")
+                    .lastUpdated(now.minusSeconds(i % 120))
+                    .dataSource("API")
+                    .realtime(true)
+                    .build());
+        }
+        return generated;
+    }
+}
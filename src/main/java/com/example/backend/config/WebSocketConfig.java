@@ -1,6 +1,9 @@
 package com.example.backend.config;
 
 import com.example.backend.websocket.JwtHandshakeInterceptor;
+import com.example.backend.websocket.RoomMembershipInterceptor;
+import com.example.backend.websocket.StompRedisRelay;
+import com.example.backend.websocket.UserIdHandshakeHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -17,20 +20,25 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final UserIdHandshakeHandler userIdHandshakeHandler;
+    private final StompRedisRelay stompRedisRelay;
+    private final RoomMembershipInterceptor roomMembershipInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
+        config.configureBrokerChannel().interceptors(stompRedisRelay);
 
-        log.info("Message Broker configured: /topic, /queue (subscribe), /app (send)");
+        log.info("Message Broker configured: /topic, /queue (subscribe), /app (send), Redis relay");
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(userIdHandshakeHandler)
                 .addInterceptors(jwtHandshakeInterceptor)
                 .withSockJS();
 
@@ -39,6 +47,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors();
+        registration.interceptors(roomMembershipInterceptor, stompRedisRelay);
     }
 }
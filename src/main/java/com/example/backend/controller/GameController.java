@@ -1,22 +1,28 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.auth.ApiResponse;
+import com.example.backend.dto.common.PageResponse;
 import com.example.backend.dto.game.*;
+import com.example.backend.service.ActivePlayerCounter;
 import com.example.backend.service.GameService;
+import com.example.backend.service.RequestIdentityContext;
 import com.example.backend.service.DemoAccountService;
+import com.example.backend.service.telemetry.GameTelemetryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import com.example.backend.dto.game.GameEnterResponse;
 
-import java.util.List;
+import java.util.Map;
 
 @Tag(name = "게임 API", description = "게임 플레이, 선택지 진행, 게임 상태 관리 관련 API")
 @Slf4j
@@ -25,8 +31,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GameController {
 
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+
     private final GameService gameService;
     private final DemoAccountService demoAccountService;
+    private final GameTelemetryService gameTelemetryService;
+    private final RequestIdentityContext identityContext;
 
     @Operation(summary = "게임 진입 자격 확인", description = "현재 사용자가 게임을 시작할 수 있는지 확인합니다. 살아있는 캐릭터 존재 여부, 진행 중인 게임 유무 등을 체크합니다.")
     @ApiResponses(value = {
@@ -337,11 +347,25 @@ public class GameController {
     })
     @GetMapping("/admin/sessions")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ActiveGameSessionResponse>> getAllActiveGameSessions() {
-        List<ActiveGameSessionResponse> sessions = gameService.getAllActiveGameSessions();
+    public ResponseEntity<PageResponse<ActiveGameSessionResponse>> getAllActiveGameSessions(
+            @Parameter(description = "페이지 번호 (0부터 시작, 기본값: 0)", required = false) @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지당 세션 수 (기본값: 20, 최대: 100)", required = false) @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_ADMIN_PAGE_SIZE));
+        PageResponse<ActiveGameSessionResponse> sessions = PageResponse.of(gameService.getActiveGameSessions(pageable));
         return ResponseEntity.ok(sessions);
     }
 
+    @Operation(summary = "[관리자] 스토리/역별 현재 플레이어 수 조회", description = "진행 중인 게임 세션 수를 스토리별, 역별로 집계한 실시간 카운터를 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "카운터 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/active-players")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivePlayerCounter.ActivePlayerSnapshot> getActivePlayerCounts() {
+        return ResponseEntity.ok(gameService.getActivePlayerCounts());
+    }
+
     @Operation(summary = "[관리자] 특정 스토리의 진행 통계 조회", description = "특정 스토리의 플레이 통계를 조회합니다. 총 플레이 수, 완료율, 평균 플레이 시간 등의 정보를 제공합니다. 관리자 권한이 필요합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "통계 조회 성공"),
@@ -356,6 +380,28 @@ public class GameController {
         return ResponseEntity.ok(statistics);
     }
 
+    @Operation(summary = "[관리자] 게임 텔레메트리 큐 상태 조회", description = "플레이 로그/선택 로그 비동기 기록 큐의 적재량, 드롭 수, 플러시 현황을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "큐 상태 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/telemetry")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GameTelemetryService.TelemetryStatistics> getTelemetryStatistics() {
+        return ResponseEntity.ok(gameTelemetryService.getStatistics());
+    }
+
+    @Operation(summary = "[관리자] 요청 단위 사용자 조회 현황", description = "요청 범위 캐시로 생략한 사용자/캐릭터/진행 상태 조회 수와 실제 조회 수의 누적값을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/identity-lookups")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getIdentityLookupStatistics() {
+        return ResponseEntity.ok(identityContext.getStatistics());
+    }
+
     @Operation(summary = "[관리자] 오래된 게임 세션 정리", description = "지정된 기간 동안 활동이 없는 오래된 게임 세션을 정리합니다. 시스템 유지보수용 API입니다. 관리자 권한이 필요합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "세션 정리 완료"),
@@ -1,13 +1,20 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.auth.ApiResponse;
+import com.example.backend.dto.metro.MetroHistorySnapshot;
 import com.example.backend.dto.metro.MetroPositionResponse;
-import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.service.MetroCallBudgetPlanner;
+import com.example.backend.service.MetroHistoryStore;
 import com.example.backend.service.MetroPositionService;
-import com.example.backend.service.MetroCacheService;
 import com.example.backend.service.MetroDataScheduler;
+import com.example.backend.service.MetroPositionSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,22 +32,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class MetroController {
 
     private final MetroPositionService metroPositionService;
-    private final MetroCacheService metroCacheService;
     private final MetroDataScheduler dataScheduler;
+    private final MetroPositionSnapshotCache positionSnapshotCache;
+    private final MetroCallBudgetPlanner budgetPlanner;
+    private final MetroHistoryStore historyStore;
 
     @GetMapping("/positions")
-    public ResponseEntity<ApiResponse> getAllPositions() {
+    public ResponseEntity<?> getAllPositions(
+            @RequestParam(defaultValue = "false") boolean interpolate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            MetroCacheService.PositionCacheData cacheData = metroCacheService.getAllPositions();
+            budgetPlanner.recordAllLinesRequest();
+            MetroPositionSnapshotCache.RenderedPositions rendered = interpolate ?
+                    positionSnapshotCache.getEstimatedAllPositions() : positionSnapshotCache.getAllPositions();
 
-            if (cacheData != null && metroCacheService.isCacheValid(cacheData)) {
-                MetroPositionResponse positions = convertCacheToResponse(cacheData);
-
-                return ResponseEntity.ok(ApiResponse.builder()
-                        .success(true)
-                        .message("전체 노선 위치 정보 조회 성공 (실시간)")
-                        .data(positions)
-                        .build());
+            if (rendered != null) {
+                return renderedResponse(rendered, ifNoneMatch);
             }
 
             MetroPositionResponse positions = metroPositionService.getAllPositions();
@@ -62,7 +69,10 @@ public class MetroController {
     }
 
     @GetMapping("/positions/{lineNumber}")
-    public ResponseEntity<ApiResponse> getLinePositions(@PathVariable Integer lineNumber) {
+    public ResponseEntity<?> getLinePositions(
+            @PathVariable Integer lineNumber,
+            @RequestParam(defaultValue = "false") boolean interpolate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             if (!isValidLineNumber(lineNumber)) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -71,16 +81,13 @@ public class MetroController {
                         .build());
             }
 
-            MetroCacheService.PositionCacheData cacheData = metroCacheService.getLinePositions(String.valueOf(lineNumber));
+            budgetPlanner.recordLineRequest(String.valueOf(lineNumber));
+            MetroPositionSnapshotCache.RenderedPositions rendered = interpolate ?
+                    positionSnapshotCache.getEstimatedLinePositions(String.valueOf(lineNumber)) :
+                    positionSnapshotCache.getLinePositions(String.valueOf(lineNumber));
 
-            if (cacheData != null && metroCacheService.isCacheValid(cacheData)) {
-                MetroPositionResponse positions = convertCacheToResponse(cacheData);
-
-                return ResponseEntity.ok(ApiResponse.builder()
-                        .success(true)
-                        .message(lineNumber + "호선 위치 정보 조회 성공 (실시간)")
-                        .data(positions)
-                        .build());
+            if (rendered != null) {
+                return renderedResponse(rendered, ifNoneMatch);
             }
 
             MetroPositionResponse positions = metroPositionService.getLinePositions(lineNumber);
@@ -174,6 +181,52 @@ public class MetroController {
         }
     }
 
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse> getHistory(
+            @RequestParam Integer line,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            if (!historyStore.isEnabled()) {
+                return ResponseEntity.ok(ApiResponse.builder()
+                        .success(false)
+                        .message("위치 이력 저장소가 비활성화되어 있습니다.")
+                        .build());
+            }
+
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from : end.minusHours(1);
+            if (start.isAfter(end)) {
+                return ResponseEntity.badRequest().body(ApiResponse.builder()
+                        .success(false)
+                        .message("조회 시작 시각이 종료 시각보다 늦습니다.")
+                        .build());
+            }
+
+            List<MetroHistorySnapshot> snapshots = historyStore.query(line, start, end, limit);
+
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message(line + "호선 위치 이력 조회 성공")
+                    .data(Map.of(
+                            "lineNumber", line,
+                            "from", start,
+                            "to", end,
+                            "count", snapshots.size(),
+                            "snapshots", snapshots
+                    ))
+                    .build());
+
+        } catch (Exception e) {
+            log.error("{}호선 위치 이력 조회 실패: {}", line, e.getMessage(), e);
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(false)
+                    .message("위치 이력 조회 중 오류가 발생했습니다.")
+                    .build());
+        }
+    }
+
     @GetMapping("/status")
     public ResponseEntity<ApiResponse> getSystemStatus() {
         try {
@@ -206,31 +259,20 @@ public class MetroController {
         }
     }
 
-    private MetroPositionResponse convertCacheToResponse(MetroCacheService.PositionCacheData cacheData) {
-        List<TrainPosition> positions = cacheData.getPositions() != null ?
-                cacheData.getPositions() : List.of();
-
-        Map<String, Integer> lineStatistics = positions.stream()
-                .filter(pos -> pos != null && pos.getLineNumber() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                        pos -> pos.getLineNumber().toString(),
-                        java.util.stream.Collectors.collectingAndThen(
-                                java.util.stream.Collectors.counting(),
-                                Math::toIntExact
-                        )
-                ));
+    private ResponseEntity<?> renderedResponse(MetroPositionSnapshotCache.RenderedPositions rendered,
+                                               String ifNoneMatch) {
+        if (rendered.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(rendered.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
-        return MetroPositionResponse.builder()
-                .positions(positions)
-                .totalTrains(positions.size())
-                .lineStatistics(lineStatistics)
-                .lastUpdated(cacheData.getLastUpdated() != null ?
-                        cacheData.getLastUpdated() : LocalDateTime.now())
-                .nextUpdate(cacheData.getNextUpdateTime())
-                .dataSource("API")
-                .realtime(true)
-                .systemStatus("HEALTHY")
-                .build();
+        return ResponseEntity.ok()
+                .eTag(rendered.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.getBody());
     }
 
     private MetroPositionResponse createEmptyPositionResponse() {
@@ -0,0 +1,82 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.metro.MetroPositionDelta;
+import com.example.backend.service.MetroCallBudgetPlanner;
+import com.example.backend.service.MetroPositionSnapshotCache;
+import com.example.backend.service.MetroPositionStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@Slf4j
+@Controller
+public class MetroStreamController {
+
+    private static final String ALL_DESTINATION = "/topic/metro/all";
+    private static final String LINE_DESTINATION_PREFIX = "/topic/metro/line/";
+
+    private final MetroPositionSnapshotCache positionSnapshotCache;
+    private final MetroPositionStreamService positionStreamService;
+    private final MetroCallBudgetPlanner budgetPlanner;
+    private final SimpMessagingTemplate sessionMessagingTemplate;
+
+    public MetroStreamController(MetroPositionSnapshotCache positionSnapshotCache,
+                                 MetroPositionStreamService positionStreamService,
+                                 MetroCallBudgetPlanner budgetPlanner,
+                                 SimpMessagingTemplate brokerMessagingTemplate,
+                                 @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.positionSnapshotCache = positionSnapshotCache;
+        this.positionStreamService = positionStreamService;
+        this.budgetPlanner = budgetPlanner;
+        this.sessionMessagingTemplate = new SimpMessagingTemplate(clientOutboundChannel);
+        this.sessionMessagingTemplate.setMessageConverter(brokerMessagingTemplate.getMessageConverter());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+
+        MetroPositionDelta snapshot;
+        if (ALL_DESTINATION.equals(destination)) {
+            snapshot = subscribeAllLines();
+        } else if (destination.startsWith(LINE_DESTINATION_PREFIX)
+                && destination.length() > LINE_DESTINATION_PREFIX.length()) {
+            snapshot = subscribeLine(destination.substring(LINE_DESTINATION_PREFIX.length()));
+        } else {
+            return;
+        }
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(accessor.getSessionId());
+        headers.setSubscriptionId(accessor.getSubscriptionId());
+        headers.setLeaveMutable(true);
+
+        try {
+            sessionMessagingTemplate.convertAndSend(destination, snapshot, headers.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("지하철 위치 스냅샷 전송 실패: {} - {}", destination, e.getMessage());
+        }
+    }
+
+    private MetroPositionDelta subscribeAllLines() {
+        budgetPlanner.recordAllLinesSubscription();
+        positionSnapshotCache.getAllPositions();
+        return positionStreamService.snapshot(MetroPositionStreamService.ALL_LINES);
+    }
+
+    private MetroPositionDelta subscribeLine(String lineNumber) {
+        budgetPlanner.recordLineSubscription(lineNumber);
+        positionSnapshotCache.getLinePositions(lineNumber);
+        return positionStreamService.snapshot(lineNumber);
+    }
+}
@@ -5,8 +5,8 @@ import com.example.backend.dto.multiplayer.ChatMessageResponse;
 import com.example.backend.dto.multiplayer.RoomVoteResponse;
 import com.example.backend.service.multiplayer.ChatMessageService;
 import com.example.backend.service.multiplayer.LlmIntegrationService;
+import com.example.backend.service.multiplayer.RoomMembershipIndex;
 import com.example.backend.service.multiplayer.VoteService;
-import com.example.backend.repository.multiplayer.RoomParticipantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -28,7 +28,7 @@ public class ChatWebSocketController {
     private final LlmIntegrationService llmIntegrationService;
     private final VoteService voteService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final RoomParticipantRepository participantRepository;
+    private final RoomMembershipIndex membershipIndex;
 
     @MessageMapping("/room/{roomId}/chat")
     public void handleChat(
@@ -187,14 +187,14 @@ public class ChatWebSocketController {
 
         try {
             Long userId = getUserIdFromSession(headerAccessor);
-            boolean isParticipant = participantRepository.existsByRoomIdAndUserId(roomId, userId);
-
-            if (!isParticipant) {
+            if (!membershipIndex.isMember(roomId, userId)) {
                 throw new IllegalStateException("방 참가자만 메시지 동기화를 요청할 수 있습니다");
             }
 
-            Long lastMessageId = payload.get("lastMessageId");
-            List<ChatMessageResponse> missed = chatMessageService.getMessagesAfter(roomId, lastMessageId, 100);
+            Long lastSequence = payload.get("lastSequence");
+            List<ChatMessageResponse> missed = lastSequence != null ?
+                    chatMessageService.getMessagesAfterSequence(roomId, lastSequence, 100) :
+                    chatMessageService.getMessagesAfter(roomId, payload.get("lastMessageId"), 100);
 
             messagingTemplate.convertAndSendToUser(
                     userId.toString(),
@@ -1,8 +1,15 @@
 package com.example.backend.controller.multiplayer;
 
 import com.example.backend.dto.multiplayer.UserStatsResponse;
+import com.example.backend.service.multiplayer.ChatWriteBehindService;
+import com.example.backend.service.multiplayer.RateLimiter;
+import com.example.backend.service.multiplayer.RecentMessageBuffer;
+import com.example.backend.service.multiplayer.RoomMembershipIndex;
 import com.example.backend.service.multiplayer.UserStatsService;
+import com.example.backend.websocket.RoomMembershipInterceptor;
+import com.example.backend.websocket.StompRedisRelay;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Tag(name = "멀티플레이어 통계 API", description = "사용자 멀티플레이어 통계 조회 API")
 @Slf4j
 @RestController
@@ -18,6 +28,12 @@ import org.springframework.web.bind.annotation.*;
 public class MultiplayerStatsController {
 
     private final UserStatsService statsService;
+    private final RoomMembershipIndex membershipIndex;
+    private final RoomMembershipInterceptor membershipInterceptor;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatWriteBehindService writeBehindService;
+    private final StompRedisRelay stompRedisRelay;
+    private final RateLimiter rateLimiter;
 
     @Operation(summary = "내 통계 조회", description = "현재 로그인한 사용자의 멀티플레이어 통계를 조회합니다")
     @GetMapping("/me")
@@ -33,4 +49,61 @@ public class MultiplayerStatsController {
         UserStatsResponse stats = statsService.getUserStats(userId);
         return ResponseEntity.ok(stats);
     }
+
+    @Operation(summary = "[관리자] 속도 제한 현황 조회", description = "채팅과 투표 요청의 노드별 속도 제한 허용/거부 현황을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "속도 제한 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/rate-limiter")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRateLimiterStatistics() {
+        return ResponseEntity.ok(rateLimiter.getStatistics());
+    }
+
+    @Operation(summary = "[관리자] STOMP 릴레이 현황 조회", description = "노드 간 Redis pub/sub으로 중계한 STOMP 메시지의 발행/수신 현황을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "STOMP 릴레이 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/stomp-relay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStompRelayStatistics() {
+        return ResponseEntity.ok(stompRedisRelay.getStatistics());
+    }
+
+    @Operation(summary = "[관리자] 채팅 저장 저널 현황 조회", description = "write-behind 채팅 저널의 적재, 저장, 재시도 현황을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "채팅 저장 저널 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/chat-write-behind")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChatWriteBehindService.WriteBehindStatistics> getChatWriteBehindStatistics() {
+        return ResponseEntity.ok(writeBehindService.getStatistics());
+    }
+
+    @Operation(summary = "[관리자] 최근 메시지 버퍼 현황 조회", description = "노드 메모리에 보관 중인 방별 최근 메시지 버퍼의 적중/누락 현황을 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최근 메시지 버퍼 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/recent-messages")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getRecentMessageStatistics() {
+        return ResponseEntity.ok(recentMessageBuffer.getStatistics());
+    }
+
+    @Operation(summary = "[관리자] 방 멤버십 인가 현황 조회", description = "STOMP 방 트래픽 인가에 사용하는 멤버십 캐시의 적중 현황과 거부 건수를 조회합니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "방 멤버십 인가 현황 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    @GetMapping("/admin/membership")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getMembershipStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>(membershipIndex.getStatistics());
+        statistics.put("rejected", membershipInterceptor.getRejectedCount());
+        return ResponseEntity.ok(statistics);
+    }
 }
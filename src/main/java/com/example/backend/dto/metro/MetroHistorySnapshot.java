@@ -0,0 +1,21 @@
+package com.example.backend.dto.metro;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetroHistorySnapshot {
+
+    private long sequence;
+    private Integer lineNumber;
+    private LocalDateTime capturedAt;
+    private int trainCount;
+    private List<TrainPosition> positions;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.dto.metro;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetroPositionDelta {
+
+    public static final String TYPE_SNAPSHOT = "SNAPSHOT";
+    public static final String TYPE_DELTA = "DELTA";
+
+    private String type;
+    private String lineNumber;
+    private long version;
+    private long previousVersion;
+
+    private List<TrainPosition> added;
+    private List<TrainPosition> moved;
+    private List<TrainPosition> removed;
+
+    private List<TrainPosition> positions;
+    private LocalDateTime generatedAt;
+}
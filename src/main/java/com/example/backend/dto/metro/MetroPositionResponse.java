@@ -1,6 +1,7 @@
 package com.example.backend.dto.metro;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.Map;
 @AllArgsConstructor
 public class MetroPositionResponse {
 
+    @JsonSerialize(using = TrainPositionListSerializer.class)
     private List<TrainPosition> positions;
     private Integer totalTrains;
     private Map<String, Integer> lineStatistics;
@@ -23,12 +23,18 @@ public class TrainPosition {
     private Double x;
     private Double y;
 
+    private String nextStationId;
+    private Double segmentProgress;
+
     private LocalDateTime lastUpdated;
     private String dataSource;
 
     @JsonProperty("isRealtime")
     private boolean realtime;
 
+    @JsonProperty("isEstimated")
+    private boolean estimated;
+
     public boolean isUpDirection() {
         return "up".equalsIgnoreCase(direction) || "상행".equals(direction);
     }
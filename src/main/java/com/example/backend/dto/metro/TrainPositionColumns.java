@@ -0,0 +1,426 @@
+package com.example.backend.dto.metro;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+public final class TrainPositionColumns {
+
+    public static final byte DIRECTION_UP = 0;
+    public static final byte DIRECTION_DOWN = 1;
+    public static final byte DIRECTION_UNKNOWN = 2;
+
+    public static final TrainPositionColumns EMPTY = builder(0, null, false).build();
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final int size;
+    private final String[] trainIds;
+    private final int[] lines;
+    private final int[] stationIndexes;
+    private final byte[] directions;
+    private final long[] updatedAt;
+
+    private final int stationCount;
+    private final long[] stationIds;
+    private final String[] stationNames;
+
+    private final String dataSource;
+    private final boolean realtime;
+
+    private TrainPositionColumns(int size, String[] trainIds, int[] lines, int[] stationIndexes, byte[] directions,
+                                 long[] updatedAt, int stationCount, long[] stationIds, String[] stationNames,
+                                 String dataSource, boolean realtime) {
+        this.size = size;
+        this.trainIds = trainIds;
+        this.lines = lines;
+        this.stationIndexes = stationIndexes;
+        this.directions = directions;
+        this.updatedAt = updatedAt;
+        this.stationCount = stationCount;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.dataSource = dataSource;
+        this.realtime = realtime;
+    }
+
+    public static Builder builder(int expectedSize, String dataSource, boolean realtime) {
+        return new Builder(expectedSize, dataSource, realtime);
+    }
+
+    public static TrainPositionColumns of(List<TrainPosition> positions) {
+        if (positions == null || positions.isEmpty()) {
+            return EMPTY;
+        }
+
+        TrainPosition first = positions.get(0);
+        Builder builder = builder(positions.size(), first.getDataSource(), first.isRealtime());
+        for (TrainPosition position : positions) {
+            if (position == null || position.getTrainId() == null) {
+                continue;
+            }
+            builder.add(position.getTrainId(),
+                    position.getLineNumber() != null ? position.getLineNumber() : 0,
+                    parseStationId(position.getStationId()),
+                    position.getStationName(),
+                    directionOf(position.getDirection()),
+                    position.getLastUpdated() != null ?
+                            position.getLastUpdated().atZone(ZONE).toInstant().toEpochMilli() : 0L);
+        }
+        return builder.build();
+    }
+
+    public static TrainPositionColumns concat(List<TrainPositionColumns> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+
+        int total = 0;
+        for (TrainPositionColumns part : parts) {
+            total += part.size;
+        }
+        if (total == 0) {
+            return EMPTY;
+        }
+
+        TrainPositionColumns first = parts.stream().filter(part -> part.size > 0).findFirst().orElse(EMPTY);
+        Builder builder = builder(total, first.dataSource, first.realtime);
+        for (TrainPositionColumns part : parts) {
+            for (int row = 0; row < part.size; row++) {
+                int station = part.stationIndexes[row];
+                builder.add(part.trainIds[row], part.lines[row], part.stationIds[station],
+                        part.stationNames[station], part.directions[row], part.updatedAt[row]);
+            }
+        }
+        return builder.build();
+    }
+
+    public static byte directionOf(String direction) {
+        if ("up".equalsIgnoreCase(direction) || "상행".equals(direction)) {
+            return DIRECTION_UP;
+        }
+        if ("down".equalsIgnoreCase(direction) || "하행".equals(direction)) {
+            return DIRECTION_DOWN;
+        }
+        return DIRECTION_UNKNOWN;
+    }
+
+    public static String directionName(byte direction) {
+        return switch (direction) {
+            case DIRECTION_UP -> "up";
+            case DIRECTION_DOWN -> "down";
+            default -> "unknown";
+        };
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String trainId(int row) {
+        return trainIds[row];
+    }
+
+    public int line(int row) {
+        return lines[row];
+    }
+
+    public int stationIndex(int row) {
+        return stationIndexes[row];
+    }
+
+    public byte direction(int row) {
+        return directions[row];
+    }
+
+    public long updatedAt(int row) {
+        return updatedAt[row];
+    }
+
+    public LocalDateTime lastUpdated(int row) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(updatedAt[row]), ZONE);
+    }
+
+    public int stationCount() {
+        return stationCount;
+    }
+
+    public long stationId(int stationIndex) {
+        return stationIds[stationIndex];
+    }
+
+    public String stationName(int stationIndex) {
+        return stationNames[stationIndex];
+    }
+
+    public String getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isRealtime() {
+        return realtime;
+    }
+
+    public boolean samePosition(int row, TrainPositionColumns other, int otherRow) {
+        return directions[row] == other.directions[otherRow]
+                && stationIds[stationIndexes[row]] == other.stationIds[other.stationIndexes[otherRow]]
+                && stationNames[stationIndexes[row]].equals(other.stationNames[other.stationIndexes[otherRow]]);
+    }
+
+    public int compareTrainKey(int row, TrainPositionColumns other, int otherRow) {
+        int comparison = Integer.compare(lines[row], other.lines[otherRow]);
+        return comparison != 0 ? comparison : trainIds[row].compareTo(other.trainIds[otherRow]);
+    }
+
+    public TrainPositionColumns select(int[] rows, int count) {
+        if (count == 0) {
+            return new TrainPositionColumns(0, new String[0], new int[0], new int[0], new byte[0], new long[0],
+                    stationCount, stationIds, stationNames, dataSource, realtime);
+        }
+
+        String[] selectedTrainIds = new String[count];
+        int[] selectedLines = new int[count];
+        int[] selectedStations = new int[count];
+        byte[] selectedDirections = new byte[count];
+        long[] selectedUpdatedAt = new long[count];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            selectedTrainIds[i] = trainIds[row];
+            selectedLines[i] = lines[row];
+            selectedStations[i] = stationIndexes[row];
+            selectedDirections[i] = directions[row];
+            selectedUpdatedAt[i] = updatedAt[row];
+        }
+
+        return new TrainPositionColumns(count, selectedTrainIds, selectedLines, selectedStations,
+                selectedDirections, selectedUpdatedAt, stationCount, stationIds, stationNames, dataSource, realtime);
+    }
+
+    public int[] sortedByTrainKey() {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (size > 1) {
+            mergeSort(order, new int[size], 0, size);
+        }
+        return order;
+    }
+
+    public TrainPosition toPosition(int row) {
+        String stationName = stationNames[stationIndexes[row]];
+        long stationId = stationIds[stationIndexes[row]];
+
+        return TrainPosition.builder()
+                .trainId(trainIds[row])
+                .lineNumber(lines[row])
+                .stationId(stationId >= 0 ? Long.toString(stationId) : null)
+                .stationName(stationName)
+                .frontendStationId(stationName)
+                .direction(directionName(directions[row]))
+                .lastUpdated(lastUpdated(row))
+                .dataSource(dataSource)
+                .realtime(realtime)
+                .build();
+    }
+
+    public List<TrainPosition> toPositions() {
+        List<TrainPosition> positions = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            positions.add(toPosition(row));
+        }
+        return positions;
+    }
+
+    public PositionList asPositions() {
+        return new PositionList(this);
+    }
+
+    public Map<String, Integer> countByLine() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            counts.merge(Integer.toString(lines[row]), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private void mergeSort(int[] order, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, from, middle);
+        mergeSort(order, buffer, middle, to);
+
+        if (compareTrainKey(order[middle - 1], this, order[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && compareTrainKey(buffer[left], this, buffer[right]) <= 0) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static long parseStationId(String stationId) {
+        if (stationId == null || stationId.isEmpty() || stationId.length() > 18) {
+            return -1L;
+        }
+
+        long value = 0L;
+        for (int i = 0; i < stationId.length(); i++) {
+            char c = stationId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1L;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static final class PositionList extends AbstractList<TrainPosition> implements RandomAccess {
+
+        private final TrainPositionColumns columns;
+
+        private PositionList(TrainPositionColumns columns) {
+            this.columns = columns;
+        }
+
+        public TrainPositionColumns columns() {
+            return columns;
+        }
+
+        @Override
+        public TrainPosition get(int index) {
+            Objects.checkIndex(index, columns.size);
+            return columns.toPosition(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size;
+        }
+    }
+
+    public static final class Builder {
+
+        private final String dataSource;
+        private final boolean realtime;
+
+        private int size;
+        private String[] trainIds;
+        private int[] lines;
+        private int[] stationIndexes;
+        private byte[] directions;
+        private long[] updatedAt;
+
+        private int stationCount;
+        private long[] stationIds = new long[16];
+        private String[] stationNames = new String[16];
+
+        private long[] internKeys = new long[32];
+        private int[] internSlots = new int[32];
+
+        private Builder(int expectedSize, String dataSource, boolean realtime) {
+            int capacity = Math.max(expectedSize, 8);
+            this.dataSource = dataSource;
+            this.realtime = realtime;
+            this.trainIds = new String[capacity];
+            this.lines = new int[capacity];
+            this.stationIndexes = new int[capacity];
+            this.directions = new byte[capacity];
+            this.updatedAt = new long[capacity];
+            Arrays.fill(internKeys, -1L);
+        }
+
+        public Builder add(String trainId, int line, long stationId, String stationName,
+                           byte direction, long updatedAtMillis) {
+            if (size == trainIds.length) {
+                int capacity = size * 2;
+                trainIds = Arrays.copyOf(trainIds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                stationIndexes = Arrays.copyOf(stationIndexes, capacity);
+                directions = Arrays.copyOf(directions, capacity);
+                updatedAt = Arrays.copyOf(updatedAt, capacity);
+            }
+
+            trainIds[size] = trainId;
+            lines[size] = line;
+            stationIndexes[size] = intern(stationId, stationName != null ? stationName : "미정");
+            directions[size] = direction;
+            updatedAt[size] = updatedAtMillis;
+            size++;
+            return this;
+        }
+
+        public TrainPositionColumns build() {
+            return new TrainPositionColumns(size, trainIds, lines, stationIndexes, directions, updatedAt,
+                    stationCount, stationIds, stationNames, dataSource, realtime);
+        }
+
+        private int intern(long stationId, String stationName) {
+            if (stationId >= 0) {
+                int mask = internKeys.length - 1;
+                int slot = Long.hashCode(stationId * 0x9E3779B97F4A7C15L) & mask;
+                while (internKeys[slot] != -1L) {
+                    if (internKeys[slot] == stationId) {
+                        return internSlots[slot];
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+
+            if (stationCount == stationIds.length) {
+                stationIds = Arrays.copyOf(stationIds, stationCount * 2);
+                stationNames = Arrays.copyOf(stationNames, stationCount * 2);
+            }
+            stationIds[stationCount] = stationId;
+            stationNames[stationCount] = stationName;
+            int index = stationCount++;
+
+            if (stationId >= 0) {
+                if (stationCount * 2 > internKeys.length) {
+                    rehash();
+                }
+                insert(stationId, index);
+            }
+            return index;
+        }
+
+        private void insert(long stationId, int index) {
+            int mask = internKeys.length - 1;
+            int slot = Long.hashCode(stationId * 0x9E3779B97F4A7C15L) & mask;
+            while (internKeys[slot] != -1L && internKeys[slot] != stationId) {
+                slot = (slot + 1) & mask;
+            }
+            internKeys[slot] = stationId;
+            internSlots[slot] = index;
+        }
+
+        private void rehash() {
+            internKeys = new long[internKeys.length * 2];
+            internSlots = new int[internSlots.length * 2];
+            Arrays.fill(internKeys, -1L);
+            for (int i = 0; i < stationCount; i++) {
+                if (stationIds[i] >= 0) {
+                    insert(stationIds[i], i);
+                }
+            }
+        }
+    }
+}
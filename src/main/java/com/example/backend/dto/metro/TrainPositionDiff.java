@@ -0,0 +1,65 @@
+package com.example.backend.dto.metro;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Value
+public class TrainPositionDiff {
+
+    List<TrainPosition> added;
+    List<TrainPosition> moved;
+    List<TrainPosition> removed;
+
+    public boolean isEmpty() {
+        return added.isEmpty() && moved.isEmpty() && removed.isEmpty();
+    }
+
+    public static int[] uniqueRows(TrainPositionColumns trains) {
+        int[] sorted = trains.sortedByTrainKey();
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i + 1 < sorted.length && trains.compareTrainKey(sorted[i], trains, sorted[i + 1]) == 0) {
+                continue;
+            }
+            sorted[unique++] = sorted[i];
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+
+    public static TrainPositionDiff between(TrainPositionColumns previous, int[] previousRows,
+                                            TrainPositionColumns current, int[] currentRows) {
+        List<TrainPosition> added = new ArrayList<>();
+        List<TrainPosition> moved = new ArrayList<>();
+        List<TrainPosition> removed = new ArrayList<>();
+
+        int before = 0;
+        int after = 0;
+        while (before < previousRows.length || after < currentRows.length) {
+            int comparison;
+            if (before >= previousRows.length) {
+                comparison = 1;
+            } else if (after >= currentRows.length) {
+                comparison = -1;
+            } else {
+                comparison = previous.compareTrainKey(previousRows[before], current, currentRows[after]);
+            }
+
+            if (comparison < 0) {
+                removed.add(previous.toPosition(previousRows[before++]));
+            } else if (comparison > 0) {
+                added.add(current.toPosition(currentRows[after++]));
+            } else {
+                int previousRow = previousRows[before++];
+                int currentRow = currentRows[after++];
+                if (!current.samePosition(currentRow, previous, previousRow)) {
+                    moved.add(current.toPosition(currentRow));
+                }
+            }
+        }
+
+        return new TrainPositionDiff(added, moved, removed);
+    }
+}
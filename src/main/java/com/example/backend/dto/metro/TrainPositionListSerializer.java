@@ -0,0 +1,80 @@
+package com.example.backend.dto.metro;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+public class TrainPositionListSerializer extends StdSerializer<List<TrainPosition>> {
+
+    private static final long FRESH_MILLIS = 5 * 60 * 1000L;
+
+    @SuppressWarnings("unchecked")
+    public TrainPositionListSerializer() {
+        super((Class<List<TrainPosition>>) (Class<?>) List.class);
+    }
+
+    @Override
+    public void serialize(List<TrainPosition> positions, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (!(positions instanceof TrainPositionColumns.PositionList list)) {
+            gen.writeStartArray(positions, positions.size());
+            for (TrainPosition position : positions) {
+                provider.defaultSerializeValue(position, gen);
+            }
+            gen.writeEndArray();
+            return;
+        }
+
+        TrainPositionColumns columns = list.columns();
+        String dataSource = columns.getDataSource();
+        boolean mockData = "MOCK".equalsIgnoreCase(dataSource);
+        long freshAfter = System.currentTimeMillis() - FRESH_MILLIS;
+
+        gen.writeStartArray(positions, columns.size());
+        for (int row = 0; row < columns.size(); row++) {
+            int station = columns.stationIndex(row);
+            long stationId = columns.stationId(station);
+            String stationName = columns.stationName(station);
+            byte direction = columns.direction(row);
+
+            gen.writeStartObject();
+            gen.writeStringField("trainId", columns.trainId(row));
+            gen.writeNumberField("lineNumber", columns.line(row));
+            if (stationId >= 0) {
+                gen.writeStringField("stationId", Long.toString(stationId));
+            } else {
+                gen.writeNullField("stationId");
+            }
+            gen.writeStringField("stationName", stationName);
+            gen.writeStringField("frontendStationId", stationName);
+            gen.writeStringField("direction", TrainPositionColumns.directionName(direction));
+            gen.writeNullField("x");
+            gen.writeNullField("y");
+            gen.writeNullField("nextStationId");
+            gen.writeNullField("segmentProgress");
+            provider.defaultSerializeField("lastUpdated", columns.lastUpdated(row), gen);
+            gen.writeStringField("dataSource", dataSource);
+            gen.writeBooleanField("isRealtime", columns.isRealtime());
+            gen.writeBooleanField("isEstimated", false);
+            gen.writeBooleanField("upDirection", direction == TrainPositionColumns.DIRECTION_UP);
+            gen.writeBooleanField("downDirection", direction == TrainPositionColumns.DIRECTION_DOWN);
+            gen.writeBooleanField("fresh", columns.updatedAt(row) > freshAfter);
+            gen.writeBooleanField("mockData", mockData);
+            gen.writeStringField("displayDirection", displayDirection(direction));
+            gen.writeStringField("displayLineName", columns.line(row) + "호선");
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static String displayDirection(byte direction) {
+        return switch (direction) {
+            case TrainPositionColumns.DIRECTION_UP -> "상행";
+            case TrainPositionColumns.DIRECTION_DOWN -> "하행";
+            default -> TrainPositionColumns.directionName(direction);
+        };
+    }
+}
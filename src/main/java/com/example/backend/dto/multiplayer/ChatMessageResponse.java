@@ -22,6 +22,9 @@ public class ChatMessageResponse {
     @Schema(description = "방 ID", example = "10")
     private Long roomId;
 
+    @Schema(description = "방 내 메시지 순번", example = "42")
+    private Long sequence;
+
     @Schema(description = "메시지 타입", example = "USER")
     private String messageType;
 
@@ -48,6 +48,9 @@ public class ChatMessage {
     @Builder.Default
     private Integer phase = 0;
 
+    @Column(name = "room_seq")
+    private Long roomSeq;
+
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
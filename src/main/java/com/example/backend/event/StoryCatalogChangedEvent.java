@@ -0,0 +1,22 @@
+package com.example.backend.event;
+
+import lombok.Getter;
+
+@Getter
+public class StoryCatalogChangedEvent {
+    private final Long storyId;
+    private final boolean deleted;
+
+    public StoryCatalogChangedEvent(Long storyId, boolean deleted) {
+        this.storyId = storyId;
+        this.deleted = deleted;
+    }
+
+    public static StoryCatalogChangedEvent saved(Long storyId) {
+        return new StoryCatalogChangedEvent(storyId, false);
+    }
+
+    public static StoryCatalogChangedEvent deleted(Long storyId) {
+        return new StoryCatalogChangedEvent(storyId, true);
+    }
+}
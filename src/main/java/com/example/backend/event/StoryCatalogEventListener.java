@@ -0,0 +1,32 @@
+package com.example.backend.event;
+
+import com.example.backend.service.StoryGraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryCatalogEventListener {
+
+    private final StoryGraphService storyGraphService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStoryCatalogChanged(StoryCatalogChangedEvent event) {
+        Long storyId = event.getStoryId();
+
+        try {
+            if (event.isDeleted()) {
+                storyGraphService.evictStory(storyId);
+            } else {
+                storyGraphService.refreshStory(storyId);
+            }
+            storyGraphService.publishChange(storyId);
+        } catch (Exception e) {
+            log.error("스토리 그래프 갱신 실패: storyId={}", storyId, e);
+        }
+    }
+}
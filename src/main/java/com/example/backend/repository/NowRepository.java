@@ -1,8 +1,10 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.game.ActiveGameSessionResponse;
 import com.example.backend.entity.Character;
 import com.example.backend.entity.Now;
 import com.example.backend.entity.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,11 +30,19 @@ public interface NowRepository extends JpaRepository<Now, Long> {
     @Query("SELECT COUNT(n) FROM Now n WHERE n.page.pageId = :pageId")
     Long countCharactersAtPage(@Param("pageId") Long pageId);
 
-    @Query("SELECT n FROM Now n JOIN FETCH n.character c JOIN FETCH n.page p WHERE c.deletedAt IS NULL")
-    List<Now> findAllActiveGameSessions();
+    @Query("SELECT COUNT(n) > 0 FROM Now n JOIN n.page p WHERE p.stoId = :storyId")
+    boolean existsByStoryId(@Param("storyId") Long storyId);
 
-    @Query("SELECT n FROM Now n JOIN FETCH n.character c JOIN n.page p WHERE p.stoId = :storyId AND c.deletedAt IS NULL")
-    List<Now> findCharactersInStory(@Param("storyId") Long storyId);
+    @Query("SELECT p.stoId, COUNT(n) FROM Now n JOIN n.character c JOIN n.page p " +
+            "WHERE c.deletedAt IS NULL GROUP BY p.stoId")
+    List<Object[]> countActiveSessionsByStory();
+
+    @Query(value = "SELECT new com.example.backend.dto.game.ActiveGameSessionResponse(" +
+            "c.charId, c.charName, u.userName, s.stoId, COALESCE(s.stoTitle, 'Unknown'), p.pageNumber, n.createdAt) " +
+            "FROM Now n JOIN n.character c JOIN c.user u JOIN n.page p LEFT JOIN Story s ON s.stoId = p.stoId " +
+            "WHERE c.deletedAt IS NULL ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Now n JOIN n.character c WHERE c.deletedAt IS NULL")
+    org.springframework.data.domain.Page<ActiveGameSessionResponse> findActiveGameSessionSummaries(Pageable pageable);
 
     @Modifying
     @Transactional
@@ -46,6 +56,11 @@ public interface NowRepository extends JpaRepository<Now, Long> {
     @Query("SELECT n FROM Now n JOIN FETCH n.page p WHERE n.character.charId = :charId")
     Optional<Now> findByCharacterIdWithPage(@Param("charId") Long charId);
 
-    @Query("SELECT n FROM Now n WHERE n.createdAt < :cutoffDate")
-    List<Now> findOldGameSessions(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM NOW WHERE now_id IN " +
+            "(SELECT now_id FROM NOW WHERE created_at < :cutoffDate ORDER BY now_id LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteOldGameSessions(@Param("cutoffDate") java.time.LocalDateTime cutoffDate,
+                              @Param("batchSize") int batchSize);
 }
\ No newline at end of file
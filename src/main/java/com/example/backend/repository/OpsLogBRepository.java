@@ -1,7 +1,9 @@
 package com.example.backend.repository;
 
+import com.example.backend.entity.LogE;
 import com.example.backend.entity.OpsLogB;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -58,6 +60,10 @@ public interface OpsLogBRepository extends JpaRepository<OpsLogB, Long> {
     @Query("SELECT b FROM OpsLogB b WHERE b.character.charId = :charId AND b.loge IS NULL ORDER BY b.createdAt ASC")
     List<OpsLogB> findUnlinkedPlayLogsByCharacter(@Param("charId") Long charId);
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OpsLogB b SET b.loge = :loge WHERE b.character.charId = :charId AND b.loge IS NULL")
+    int linkUnlinkedPlayLogs(@Param("charId") Long charId, @Param("loge") LogE loge);
+
     @Query("SELECT COUNT(b) FROM OpsLogB b WHERE b.character.charId = :charId AND b.loge IS NULL")
     Long countUnlinkedPlayLogsByCharacter(@Param("charId") Long charId);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +14,8 @@ public interface OptionsRepository extends JpaRepository<Options, Long> {
 
     List<Options> findByPageId(Long pageId);
 
+    List<Options> findByPageIdIn(Collection<Long> pageIds);
+
     @Query("SELECT COUNT(o) FROM Options o WHERE o.pageId = :pageId")
     Long countOptionsByPageId(@Param("pageId") Long pageId);
 
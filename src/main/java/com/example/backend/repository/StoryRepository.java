@@ -7,34 +7,45 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StoryRepository extends JpaRepository<Story, Long> {
 
     List<Story> findByStation(Station station);
 
-    @Query("SELECT s FROM Story s WHERE s.station.staLine = :lineNumber")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station")
+    List<Story> findAllWithStation();
+
+    @Query("SELECT s FROM Story s JOIN FETCH s.station WHERE s.stoId = :storyId")
+    Optional<Story> findByIdWithStation(@Param("storyId") Long storyId);
+
+    @Query("SELECT s FROM Story s JOIN FETCH s.station WHERE s.stoId IN :storyIds")
+    List<Story> findAllWithStationByIdIn(@Param("storyIds") Collection<Long> storyIds);
+
+    @Query("SELECT s FROM Story s JOIN FETCH s.station st WHERE st.staLine = :lineNumber")
     List<Story> findByStationLine(@Param("lineNumber") Integer lineNumber);
 
-    @Query("SELECT s FROM Story s WHERE s.station.staName = :stationName")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station st WHERE st.staName = :stationName")
     List<Story> findByStationName(@Param("stationName") String stationName);
 
-    @Query("SELECT s FROM Story s WHERE s.station.staName = :stationName AND s.station.staLine = :lineNumber")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station st WHERE st.staName = :stationName AND st.staLine = :lineNumber")
     List<Story> findByStationNameAndLine(@Param("stationName") String stationName, @Param("lineNumber") Integer lineNumber);
 
-    @Query("SELECT s FROM Story s WHERE s.stoLength BETWEEN :minLength AND :maxLength")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station WHERE s.stoLength BETWEEN :minLength AND :maxLength")
     List<Story> findByLengthRange(@Param("minLength") Integer minLength, @Param("maxLength") Integer maxLength);
 
-    @Query("SELECT s FROM Story s WHERE s.stoLength <= 5")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station WHERE s.stoLength <= 5")
     List<Story> findShortStories();
 
-    @Query("SELECT s FROM Story s WHERE s.stoLength >= 10")
+    @Query("SELECT s FROM Story s JOIN FETCH s.station WHERE s.stoLength >= 10")
     List<Story> findLongStories();
 
-    @Query(value = "SELECT * FROM STO ORDER BY RANDOM() LIMIT :limit", nativeQuery = true)
-    List<Story> findRandomStories(@Param("limit") Integer limit);
+    @Query(value = "SELECT sto_id FROM STO ORDER BY RANDOM() LIMIT :limit", nativeQuery = true)
+    List<Long> findRandomStoryIds(@Param("limit") Integer limit);
 
-    @Query(value = "SELECT s.* FROM STO s JOIN STA st ON s.sta_id = st.sta_id WHERE st.sta_line = :lineNumber ORDER BY RANDOM() LIMIT :limit", nativeQuery = true)
-    List<Story> findRandomStoriesByLine(@Param("lineNumber") Integer lineNumber, @Param("limit") Integer limit);
+    @Query(value = "SELECT s.sto_id FROM STO s JOIN STA st ON s.sta_id = st.sta_id WHERE st.sta_line = :lineNumber ORDER BY RANDOM() LIMIT :limit", nativeQuery = true)
+    List<Long> findRandomStoryIdsByLine(@Param("lineNumber") Integer lineNumber, @Param("limit") Integer limit);
 }
\ No newline at end of file
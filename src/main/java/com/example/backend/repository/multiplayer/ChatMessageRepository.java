@@ -41,4 +41,25 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             @Param("roomId") Long roomId,
             @Param("type") MessageType type,
             @Param("phase") Integer phase);
+
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.room.roomId = :roomId AND m.roomSeq > :lastSequence " +
+           "ORDER BY m.roomSeq ASC")
+    List<ChatMessage> findAfterSequence(
+            @Param("roomId") Long roomId,
+            @Param("lastSequence") Long lastSequence,
+            Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(m.roomSeq), 0) FROM ChatMessage m WHERE m.room.roomId = :roomId")
+    long findMaxRoomSeq(@Param("roomId") Long roomId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM chat_message " +
+                   "WHERE room_id = :roomId AND room_seq = :roomSeq AND content = :content " +
+                   "AND user_id IS NOT DISTINCT FROM CAST(:userId AS BIGINT))",
+           nativeQuery = true)
+    boolean existsSameMessage(
+            @Param("roomId") Long roomId,
+            @Param("roomSeq") Long roomSeq,
+            @Param("userId") Long userId,
+            @Param("content") String content);
 }
@@ -30,6 +30,15 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
            "WHERE p.room.roomId = :roomId AND p.isActive = true")
     List<RoomParticipant> findActiveParticipantsWithCharacter(@Param("roomId") Long roomId);
 
+    @Query("SELECT p FROM RoomParticipant p " +
+           "JOIN FETCH p.user u " +
+           "LEFT JOIN FETCH p.character c " +
+           "WHERE p.room.roomId = :roomId AND p.isActive = true")
+    List<RoomParticipant> findActiveRoster(@Param("roomId") Long roomId);
+
+    @Query("SELECT p.user.userId FROM RoomParticipant p WHERE p.room.roomId = :roomId AND p.isActive = true")
+    List<Long> findActiveUserIds(@Param("roomId") Long roomId);
+
     @Query("SELECT p FROM RoomParticipant p WHERE p.user.userId = :userId AND p.isActive = true")
     List<RoomParticipant> findActiveParticipantsByUserId(@Param("userId") Long userId);
 }
@@ -4,6 +4,7 @@ import com.example.backend.entity.Station;
 import com.example.backend.entity.Story;
 import com.example.backend.entity.Page;
 import com.example.backend.entity.Options;
+import com.example.backend.event.StoryCatalogChangedEvent;
 import com.example.backend.repository.StationRepository;
 import com.example.backend.repository.StoryRepository;
 import com.example.backend.repository.PageRepository;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +35,7 @@ public class AIStoryScheduler {
     private final StoryRepository storyRepository;
     private final PageRepository pageRepository;
     private final OptionsRepository optionsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Qualifier("llmWebClient")
     private final WebClient llmWebClient;
@@ -307,6 +310,7 @@ public class AIStoryScheduler {
                 }
             }
 
+            eventPublisher.publishEvent(StoryCatalogChangedEvent.saved(savedStory.getStoId()));
             return true;
 
         } catch (Exception e) {
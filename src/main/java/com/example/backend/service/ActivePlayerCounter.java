@@ -0,0 +1,180 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.NowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivePlayerCounter {
+
+    private static final String STORY_KEY = "game:active:story";
+    private static final String STATION_KEY = "game:active:station";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NowRepository nowRepository;
+    private final StoryGraphService storyGraphService;
+
+    private volatile LocalDateTime lastReconciledAt = null;
+
+    public void sessionStarted(Long storyId) {
+        adjustAfterCommit(storyId, 1);
+    }
+
+    public void sessionEnded(Long storyId) {
+        adjustAfterCommit(storyId, -1);
+    }
+
+    public long getStoryCount(Long storyId) {
+        return readCount(STORY_KEY, String.valueOf(storyId));
+    }
+
+    public ActivePlayerSnapshot getSnapshot() {
+        return ActivePlayerSnapshot.builder()
+                .byStory(readAll(STORY_KEY))
+                .byStation(readAll(STATION_KEY))
+                .lastReconciledAt(lastReconciledAt)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.active-players.reconcile-interval:300000}",
+            initialDelayString = "${behindy.active-players.reconcile-interval:300000}")
+    public void reconcile() {
+        try {
+            Map<String, String> storyCounts = new HashMap<>();
+            Map<String, Long> stationCounts = new HashMap<>();
+
+            for (Object[] row : nowRepository.countActiveSessionsByStory()) {
+                Long storyId = ((Number) row[0]).longValue();
+                long count = ((Number) row[1]).longValue();
+
+                storyCounts.put(String.valueOf(storyId), String.valueOf(count));
+                findStationField(storyId).ifPresent(field -> stationCounts.merge(field, count, Long::sum));
+            }
+
+            Map<String, String> stationValues = new HashMap<>();
+            stationCounts.forEach((field, count) -> stationValues.put(field, String.valueOf(count)));
+
+            replaceHash(STORY_KEY, storyCounts);
+            replaceHash(STATION_KEY, stationValues);
+            lastReconciledAt = LocalDateTime.now();
+
+            log.debug("활성 플레이어 카운터 재계산: 스토리 {}개, 역 {}개", storyCounts.size(), stationValues.size());
+        } catch (Exception e) {
+            log.warn("활성 플레이어 카운터 재계산 실패: {}", e.getMessage());
+        }
+    }
+
+    private void adjustAfterCommit(Long storyId, long delta) {
+        if (storyId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(storyId, delta);
+                }
+            });
+            return;
+        }
+
+        adjust(storyId, delta);
+    }
+
+    private void adjust(Long storyId, long delta) {
+        Optional<String> stationField = findStationField(storyId);
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().increment(STORY_KEY, String.valueOf(storyId), delta);
+                    stationField.ifPresent(field -> ops.opsForHash().increment(STATION_KEY, field, delta));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("활성 플레이어 카운터 갱신 실패: storyId={}, delta={}, error={}", storyId, delta, e.getMessage());
+        }
+    }
+
+    private void replaceHash(String key, Map<String, String> values) {
+        if (values.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String stagingKey = key + ":staging";
+        redisTemplate.delete(stagingKey);
+        redisTemplate.opsForHash().putAll(stagingKey, values);
+        redisTemplate.rename(stagingKey, key);
+    }
+
+    private long readCount(String key, String field) {
+        try {
+            Object value = redisTemplate.opsForHash().get(key, field);
+            return value != null ? Math.max(0L, Long.parseLong(value.toString())) : 0L;
+        } catch (Exception e) {
+            log.warn("활성 플레이어 카운터 조회 실패: key={}, field={}, error={}", key, field, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private Map<String, Long> readAll(String key) {
+        Map<String, Long> counts = new HashMap<>();
+
+        try {
+            redisTemplate.opsForHash().entries(key).forEach((field, value) -> {
+                long count = Long.parseLong(value.toString());
+                if (count > 0) {
+                    counts.put(field.toString(), count);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("활성 플레이어 카운터 전체 조회 실패: key={}, error={}", key, e.getMessage());
+        }
+
+        return counts;
+    }
+
+    private Optional<String> findStationField(Long storyId) {
+        return storyGraphService.findStory(storyId)
+                .map(story -> stationField(story.getStationName(), story.getStationLine()));
+    }
+
+    private static String stationField(String stationName, Integer lineNumber) {
+        return stationName + ":" + lineNumber;
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class ActivePlayerSnapshot {
+        private Map<String, Long> byStory;
+        private Map<String, Long> byStation;
+        private LocalDateTime lastReconciledAt;
+    }
+}
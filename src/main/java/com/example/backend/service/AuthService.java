@@ -41,6 +41,7 @@ public class AuthService {
     private final RedisService redisService;
     private final HtmlSanitizer htmlSanitizer;
     private final DemoAccountConfig demoAccountConfig;
+    private final RequestIdentityContext requestIdentityContext;
 
     private static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
     private static final int REFRESH_TOKEN_COOKIE_MAX_AGE = 7 * 24 * 60 * 60;
@@ -67,11 +68,7 @@ public class AuthService {
 
     @Transactional(readOnly = true)
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-
-        return userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userDetails.getId()));
+        return requestIdentityContext.getCurrentUser();
     }
 
     @Transactional
@@ -41,6 +41,8 @@ public class CharacterService {
     private final NowRepository nowRepository;
     private final StoryRepository storyRepository;
     private final LogERepository logERepository;
+    private final RequestIdentityContext requestIdentityContext;
+    private final ActivePlayerCounter activePlayerCounter;
 
     @Transactional
     public CharacterResponse createCharacter(CharacterCreateRequest request) {
@@ -68,6 +70,8 @@ public class CharacterService {
                 .build();
 
         Character savedCharacter = characterRepository.save(character);
+        requestIdentityContext.updateAliveCharacter(savedCharacter);
+        requestIdentityContext.updateActiveGame(null);
 
         CharacterResponse response = entityDtoMapper.toCharacterResponse(savedCharacter);
 
@@ -78,7 +82,7 @@ public class CharacterService {
     public CharacterResponse getCurrentCharacter() {
         User currentUser = authService.getCurrentUser();
 
-        Optional<Character> characterOpt = characterRepository.findByUserAndDeletedAtIsNull(currentUser);
+        Optional<Character> characterOpt = requestIdentityContext.findAliveCharacter();
 
         if (characterOpt.isEmpty()) {
             throw new ResourceNotFoundException("Character", "user", currentUser.getUserId());
@@ -91,9 +95,7 @@ public class CharacterService {
 
     @Transactional(readOnly = true)
     public Optional<CharacterResponse> getCurrentCharacterOptional() {
-        User currentUser = authService.getCurrentUser();
-
-        Optional<Character> characterOpt = characterRepository.findByUserAndDeletedAtIsNull(currentUser);
+        Optional<Character> characterOpt = requestIdentityContext.findAliveCharacter();
 
         if (characterOpt.isEmpty()) {
             return Optional.empty();
@@ -107,13 +109,13 @@ public class CharacterService {
     @Transactional(readOnly = true)
     public CharacterGameStatusResponse getCharacterGameStatus() {
         User currentUser = authService.getCurrentUser();
-        Character character = characterRepository.findByUserAndDeletedAtIsNull(currentUser)
+        Character character = requestIdentityContext.findAliveCharacter()
                 .orElseThrow(() -> new ResourceNotFoundException("Character", "user", currentUser.getUserId()));
 
         boolean alive = character.getCharHealth() > 0 && character.getCharSanity() > 0;
         String statusMessage = getCharacterStatusMessage(character);
 
-        Optional<Now> activeGame = nowRepository.findByCharacterIdWithPage(character.getCharId());
+        Optional<Now> activeGame = requestIdentityContext.findActiveGame(character);
         boolean hasActiveGame = activeGame.isPresent();
 
         Long currentStoryId = null;
@@ -186,7 +188,9 @@ public class CharacterService {
     public void killCharacter(Long charId) {
         User currentUser = authService.getCurrentUser();
 
-        Character character = characterRepository.findAliveCharacterById(charId)
+        Character character = requestIdentityContext.findAliveCharacter()
+                .filter(aliveCharacter -> aliveCharacter.getCharId().equals(charId))
+                .or(() -> characterRepository.findAliveCharacterById(charId))
                 .orElseThrow(() -> new ResourceNotFoundException("Character", "id", charId));
 
         if (!character.getUser().getUserId().equals(currentUser.getUserId())) {
@@ -195,6 +199,7 @@ public class CharacterService {
 
         character.delete();
         characterRepository.save(character);
+        requestIdentityContext.markCharacterDeleted(character);
 
         cleanupGameProgress(character);
     }
@@ -230,6 +235,7 @@ public class CharacterService {
         if (isDying) {
             character.delete();
             characterRepository.save(character);
+            requestIdentityContext.markCharacterDeleted(character);
             cleanupGameProgress(character);
         }
     }
@@ -252,7 +258,10 @@ public class CharacterService {
 
     private void cleanupGameProgress(Character character) {
         try {
+            Optional<Now> activeGame = requestIdentityContext.findActiveGame(character);
             nowRepository.deleteByCharacter(character);
+            requestIdentityContext.markGameEnded(character);
+            activeGame.ifPresent(game -> activePlayerCounter.sessionEnded(game.getPage().getStoId()));
         } catch (Exception e) {
             log.error("게임 진행 데이터 정리 실패: charId={}, error={}", character.getCharId(), e.getMessage(), e);
         }
@@ -261,7 +270,7 @@ public class CharacterService {
     @Transactional(readOnly = true)
     public List<VisitedStationResponse> getVisitedStations() {
         User currentUser = authService.getCurrentUser();
-        Character character = characterRepository.findByUserAndDeletedAtIsNull(currentUser)
+        Character character = requestIdentityContext.findAliveCharacter()
                 .orElseThrow(() -> new ResourceNotFoundException("Character", "user", currentUser.getUserId()));
 
         List<Object[]> results = logERepository.findVisitedStationsByCharacter(character.getCharId());
@@ -7,40 +7,43 @@ import com.example.backend.entity.Character;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.repository.*;
 import com.example.backend.service.mapper.EntityDtoMapper;
+import com.example.backend.service.telemetry.GameTelemetryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameService {
 
+    private static final int SESSION_CLEANUP_BATCH_SIZE = 500;
+
     private final StoryRepository storyRepository;
     private final PageRepository pageRepository;
-    private final OptionsRepository optionsRepository;
     private final NowRepository nowRepository;
     private final CharacterRepository characterRepository;
     private final LogERepository logERepository;
-    private final LogORepository logORepository;
-    private final OpsLogBRepository opsLogBRepository;
     private final CharacterService characterService;
-    private final AuthService authService;
+    private final RequestIdentityContext requestIdentityContext;
     private final StoryService storyService;
+    private final StoryGraphService storyGraphService;
     private final EntityDtoMapper entityDtoMapper;
+    private final GameTelemetryService gameTelemetryService;
+    private final StoryCompletionIndex storyCompletionIndex;
+    private final ActivePlayerCounter activePlayerCounter;
 
     @Transactional
     public GameEnterResponse enterGameByStation(String stationName, Integer lineNumber) {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Optional<Now> existingGame = nowRepository.findByCharacter(character);
+        Optional<Now> existingGame = requestIdentityContext.findActiveGame(character);
 
         if (existingGame.isPresent()) {
             return handleExistingGame(existingGame.get(), character, stationName, lineNumber);
@@ -80,13 +83,11 @@ public class GameService {
     private GameEnterResponse handleExistingGame(Now existingGame, Character character,
                                                  String requestedStation, Integer requestedLine) {
         Page currentPage = existingGame.getPage();
-        Story currentStory = storyRepository.findById(currentPage.getStoId())
+        StoryGraphService.StoryNode currentStory = storyGraphService.findStory(currentPage.getStoId())
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", currentPage.getStoId()));
 
-        Station currentStation = currentStory.getStation();
-
-        if (currentStation.getStaName().equals(requestedStation) &&
-                currentStation.getStaLine().equals(requestedLine)) {
+        if (currentStory.getStationName().equals(requestedStation) &&
+                currentStory.getStationLine().equals(requestedLine)) {
 
             PageResponse pageResponse = entityDtoMapper.toPageResponse(currentPage);
             CharacterResponse characterResponse = entityDtoMapper.toCharacterResponse(character);
@@ -94,9 +95,9 @@ public class GameService {
             return GameEnterResponse.builder()
                     .success(true)
                     .action("RESUME_EXISTING")
-                    .message(String.format("진행 중인 게임을 재개합니다: %s", currentStory.getStoTitle()))
-                    .resumeStoryId(currentStory.getStoId())
-                    .resumeStoryTitle(currentStory.getStoTitle())
+                    .message(String.format("진행 중인 게임을 재개합니다: %s", currentStory.getTitle()))
+                    .resumeStoryId(currentStory.getStoryId())
+                    .resumeStoryTitle(currentStory.getTitle())
                     .currentPage(pageResponse)
                     .character(characterResponse)
                     .stationName(requestedStation)
@@ -108,45 +109,46 @@ public class GameService {
                 .success(true)
                 .action("RESUME_EXISTING")
                 .message(String.format("다른 역에서 진행 중인 게임이 있습니다: %s역 %d호선 - %s",
-                        currentStation.getStaName(), currentStation.getStaLine(), currentStory.getStoTitle()))
-                .resumeStoryId(currentStory.getStoId())
-                .resumeStoryTitle(currentStory.getStoTitle())
+                        currentStory.getStationName(), currentStory.getStationLine(), currentStory.getTitle()))
+                .resumeStoryId(currentStory.getStoryId())
+                .resumeStoryTitle(currentStory.getTitle())
                 .currentPage(entityDtoMapper.toPageResponse(currentPage))
                 .character(entityDtoMapper.toCharacterResponse(character))
-                .stationName(currentStation.getStaName())
-                .stationLine(currentStation.getStaLine())
+                .stationName(currentStory.getStationName())
+                .stationLine(currentStory.getStationLine())
                 .build();
     }
 
     @Transactional
     public GameStartResponse startGame(Long storyId) {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Story story = storyRepository.findById(storyId)
+        StoryGraphService.StoryNode story = storyGraphService.findStory(storyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", storyId));
 
-        Optional<Now> existingGame = nowRepository.findByCharacter(character);
+        Optional<Now> existingGame = requestIdentityContext.findActiveGame(character);
         if (existingGame.isPresent()) {
             throw new IllegalStateException("이미 진행 중인 게임이 있습니다.");
         }
 
-        Page firstPage = pageRepository.findFirstPageByStoryId(storyId)
+        StoryGraphService.PageNode firstPage = story.getFirstPage()
                 .orElseThrow(() -> new ResourceNotFoundException("First Page", "storyId", storyId));
 
         Now gameSession = Now.builder()
                 .character(character)
-                .page(firstPage)
+                .page(pageRepository.getReferenceById(firstPage.getPageId()))
                 .pageEnteredAt(LocalDateTime.now())
                 .build();
         nowRepository.save(gameSession);
+        requestIdentityContext.updateActiveGame(gameSession);
+        activePlayerCounter.sessionStarted(storyId);
 
         PageResponse pageResponse = entityDtoMapper.toPageResponse(firstPage);
         CharacterResponse characterResponse = entityDtoMapper.toCharacterResponse(character);
 
         return GameStartResponse.builder()
                 .storyId(storyId)
-                .storyTitle(story.getStoTitle())
+                .storyTitle(story.getTitle())
                 .currentPage(pageResponse)
                 .character(characterResponse)
                 .message("게임이 시작되었습니다.")
@@ -155,22 +157,21 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public GameResumeResponse resumeGame() {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Now gameSession = nowRepository.findByCharacterIdWithPage(character.getCharId())
+        Now gameSession = requestIdentityContext.findActiveGame(character)
                 .orElseThrow(() -> new ResourceNotFoundException("Active Game", "characterId", character.getCharId()));
 
         Page currentPage = gameSession.getPage();
-        Story story = storyRepository.findById(currentPage.getStoId())
+        StoryGraphService.StoryNode story = storyGraphService.findStory(currentPage.getStoId())
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", currentPage.getStoId()));
 
         PageResponse pageResponse = entityDtoMapper.toPageResponse(currentPage);
         CharacterResponse characterResponse = entityDtoMapper.toCharacterResponse(character);
 
         return GameResumeResponse.builder()
-                .storyId(story.getStoId())
-                .storyTitle(story.getStoTitle())
+                .storyId(story.getStoryId())
+                .storyTitle(story.getTitle())
                 .currentPage(pageResponse)
                 .character(characterResponse)
                 .gameStartTime(gameSession.getCreatedAt())
@@ -180,10 +181,9 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public GameStateResponse getCurrentGameState() {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Optional<Now> gameSession = nowRepository.findByCharacterIdWithPage(character.getCharId());
+        Optional<Now> gameSession = requestIdentityContext.findActiveGame(character);
 
         if (gameSession.isEmpty()) {
             return GameStateResponse.builder()
@@ -194,7 +194,7 @@ public class GameService {
         }
 
         Page currentPage = gameSession.get().getPage();
-        Story story = storyRepository.findById(currentPage.getStoId())
+        StoryGraphService.StoryNode story = storyGraphService.findStory(currentPage.getStoId())
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", currentPage.getStoId()));
 
         PageResponse pageResponse = entityDtoMapper.toPageResponse(currentPage);
@@ -202,8 +202,8 @@ public class GameService {
 
         return GameStateResponse.builder()
                 .hasActiveGame(true)
-                .storyId(story.getStoId())
-                .storyTitle(story.getStoTitle())
+                .storyId(story.getStoryId())
+                .storyTitle(story.getTitle())
                 .currentPage(pageResponse)
                 .character(characterResponse)
                 .gameStartTime(gameSession.get().getCreatedAt())
@@ -213,15 +213,14 @@ public class GameService {
 
     @Transactional
     public ChoiceResultResponse makeChoice(Long optionId) {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Now gameSession = nowRepository.findByCharacterIdWithPage(character.getCharId())
+        Now gameSession = requestIdentityContext.findActiveGame(character)
                 .orElseThrow(() -> new ResourceNotFoundException("Active Game", "characterId", character.getCharId()));
 
         Page currentPage = gameSession.getPage();
 
-        Options selectedOption = optionsRepository.findById(optionId)
+        StoryGraphService.OptionNode selectedOption = storyGraphService.findOption(optionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Option", "id", optionId));
 
         if (selectedOption.getPageId() != currentPage.getPageId()) {
@@ -239,19 +238,19 @@ public class GameService {
         ChoiceEffect effect = applyChoiceEffect(character, selectedOption);
         characterRepository.save(character);
 
-        recordPlayLog(currentPage, selectedOption, durationMs);
+        recordPlayLog(character, currentPage, selectedOption, durationMs);
 
         if (character.getCharHealth() <= 0 || character.getCharSanity() <= 0) {
             return handleGameOver(character, gameSession, selectedOption, effect, "캐릭터 사망");
         }
 
-        Optional<Page> nextPage = determineNextPage(currentPage, selectedOption);
+        Optional<StoryGraphService.PageNode> nextPage = determineNextPage(currentPage, selectedOption);
 
         if (nextPage.isEmpty()) {
             return handleStoryComplete(character, gameSession, selectedOption, effect);
         }
 
-        gameSession.setPage(nextPage.get());
+        gameSession.setPage(pageRepository.getReferenceById(nextPage.get().getPageId()));
         gameSession.setPageEnteredAt(LocalDateTime.now());
         nowRepository.save(gameSession);
 
@@ -270,20 +269,23 @@ public class GameService {
                 .build();
     }
 
-    private Optional<Page> determineNextPage(Page currentPage, Options selectedOption) {
-        long nextPageNumber = currentPage.getPageNumber() + 1;
-        return pageRepository.findByStoIdAndPageNumber(currentPage.getStoId(), nextPageNumber);
+    private Optional<StoryGraphService.PageNode> determineNextPage(Page currentPage,
+                                                                   StoryGraphService.OptionNode selectedOption) {
+        return storyGraphService.findPage(currentPage.getPageId())
+                .map(StoryGraphService.PageNode::getNextPageId)
+                .flatMap(storyGraphService::findPage);
     }
 
     @Transactional
     public GameQuitResponse quitGame() {
-        User currentUser = authService.getCurrentUser();
-        Character character = getAliveCharacter(currentUser);
+        Character character = requestIdentityContext.getAliveCharacter();
 
-        Now gameSession = nowRepository.findByCharacter(character)
+        Now gameSession = requestIdentityContext.findActiveGame(character)
                 .orElseThrow(() -> new ResourceNotFoundException("Active Game", "characterId", character.getCharId()));
 
         nowRepository.deleteByCharacter(character);
+        requestIdentityContext.markGameEnded(character);
+        activePlayerCounter.sessionEnded(gameSession.getPage().getStoId());
 
         log.info("게임 포기: charId={}, pageId={}", character.getCharId(), gameSession.getPage().getPageId());
 
@@ -294,9 +296,9 @@ public class GameService {
                 .build();
     }
 
-    private ChoiceEffect applyChoiceEffect(Character character, Options option) {
-        String effectType = option.getOptEffect();
-        int amount = option.getOptAmount();
+    private ChoiceEffect applyChoiceEffect(Character character, StoryGraphService.OptionNode option) {
+        String effectType = option.getEffect();
+        int amount = option.getAmount();
 
         if (effectType == null || amount == 0) {
             return ChoiceEffect.builder()
@@ -339,8 +341,11 @@ public class GameService {
     }
 
     private ChoiceResultResponse handleGameOver(Character character, Now gameSession,
-                                                Options selectedOption, ChoiceEffect effect, String reason) {
+                                                StoryGraphService.OptionNode selectedOption,
+                                                ChoiceEffect effect, String reason) {
         nowRepository.deleteByCharacter(character);
+        requestIdentityContext.markGameEnded(character);
+        activePlayerCounter.sessionEnded(gameSession.getPage().getStoId());
 
         characterService.killCharacter(character.getCharId());
 
@@ -358,8 +363,11 @@ public class GameService {
     }
 
     private ChoiceResultResponse handleStoryComplete(Character character, Now gameSession,
-                                                     Options selectedOption, ChoiceEffect effect) {
+                                                     StoryGraphService.OptionNode selectedOption,
+                                                     ChoiceEffect effect) {
         nowRepository.deleteByCharacter(character);
+        requestIdentityContext.markGameEnded(character);
+        activePlayerCounter.sessionEnded(gameSession.getPage().getStoId());
 
         recordGameEnd(character, gameSession.getPage(), "COMPLETE", "스토리 클리어");
 
@@ -376,48 +384,20 @@ public class GameService {
                 .build();
     }
 
-    private Character getAliveCharacter(User user) {
-        return characterRepository.findByUserAndDeletedAtIsNull(user)
-                .orElseThrow(() -> new ResourceNotFoundException("Living Character", "userId", user.getUserId()));
-    }
-
-    private void recordChoice(Character character, Options selectedOption) {
-        try {
-            LogO choiceLog = LogO.builder()
-                    .character(character)
-                    .options(selectedOption)
-                    .build();
-
-            logORepository.save(choiceLog);
-        } catch (Exception e) {
-            log.error("선택 로그 기록 실패: charId={}, optionId={}",
-                    character.getCharId(), selectedOption.getOptId(), e);
-        }
+    private void recordChoice(Character character, StoryGraphService.OptionNode selectedOption) {
+        gameTelemetryService.recordChoice(character.getCharId(), selectedOption.getOptionId());
     }
 
-    private void recordPlayLog(Page currentPage, Options selectedOption, long durationMs) {
-        try {
-            User currentUser = authService.getCurrentUser();
-            Character character = getAliveCharacter(currentUser);
-
-            OpsLogB playLog = OpsLogB.builder()
-                    .character(character)
-                    .loge(null)
-                    .logbPage(currentPage.getPageId())
-                    .logbOpt(selectedOption.getOptId())
-                    .logbDur(durationMs)
-                    .build();
-
-            opsLogBRepository.save(playLog);
-        } catch (Exception e) {
-            log.error("플레이 로그 기록 실패: pageId={}, optionId={}",
-                    currentPage.getPageId(), selectedOption.getOptId(), e);
-        }
+    private void recordPlayLog(Character character, Page currentPage,
+                               StoryGraphService.OptionNode selectedOption, long durationMs) {
+        gameTelemetryService.recordPlayLog(character.getCharId(), currentPage.getPageId(),
+                selectedOption.getOptionId(), durationMs);
     }
 
     private void recordGameEnd(Character character, Page lastPage, String endType, String reason) {
         try {
-            Story story = storyRepository.findById(lastPage.getStoId())
+            Story story = storyGraphService.findStory(lastPage.getStoId())
+                    .map(node -> storyRepository.getReferenceById(node.getStoryId()))
                     .orElse(null);
 
             if (story != null) {
@@ -430,16 +410,12 @@ public class GameService {
 
                 logERepository.save(endLog);
                 log.info("게임 종료 로그 저장 완료: charId={}, storyId={}, result={}",
-                        character.getCharId(), story.getStoId(), endType);
-
-                List<OpsLogB> unlinkedPlayLogs = opsLogBRepository.findUnlinkedPlayLogsByCharacter(character.getCharId());
-                if (!unlinkedPlayLogs.isEmpty()) {
-                    for (OpsLogB playLog : unlinkedPlayLogs) {
-                        playLog.setLoge(endLog);
-                    }
-                    opsLogBRepository.saveAll(unlinkedPlayLogs);
-                    log.info("플레이 로그 연결 완료: charId={}, logeId={}, count={}",
-                            character.getCharId(), endLog.getLogeId(), unlinkedPlayLogs.size());
+                        character.getCharId(), lastPage.getStoId(), endType);
+
+                gameTelemetryService.linkPlayLogs(character.getCharId(), endLog.getLogeId());
+
+                if (endLog.getLogeEnding() == 1) {
+                    storyCompletionIndex.markCompleted(character.getCharId(), lastPage.getStoId());
                 }
             }
         } catch (Exception e) {
@@ -448,31 +424,20 @@ public class GameService {
     }
 
     @Transactional(readOnly = true)
-    public List<ActiveGameSessionResponse> getAllActiveGameSessions() {
-        List<Now> activeSessions = nowRepository.findAllActiveGameSessions();
-
-        return activeSessions.stream()
-                .map(session -> {
-                    Story story = storyRepository.findById(session.getPage().getStoId()).orElse(null);
-                    return ActiveGameSessionResponse.builder()
-                            .characterId(session.getCharacter().getCharId())
-                            .characterName(session.getCharacter().getCharName())
-                            .userName(session.getCharacter().getUser().getUserName())
-                            .storyId(story != null ? story.getStoId() : null)
-                            .storyTitle(story != null ? story.getStoTitle() : "Unknown")
-                            .currentPageNumber(session.getPage().getPageNumber())
-                            .gameStartTime(session.getCreatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
+    public org.springframework.data.domain.Page<ActiveGameSessionResponse> getActiveGameSessions(Pageable pageable) {
+        return nowRepository.findActiveGameSessionSummaries(pageable);
+    }
+
+    public ActivePlayerCounter.ActivePlayerSnapshot getActivePlayerCounts() {
+        return activePlayerCounter.getSnapshot();
     }
 
     @Transactional(readOnly = true)
     public StoryStatisticsResponse getStoryStatistics(Long storyId) {
-        Story story = storyRepository.findById(storyId)
+        Story story = storyRepository.findByIdWithStation(storyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", storyId));
 
-        List<Now> currentPlayers = nowRepository.findCharactersInStory(storyId);
+        long currentPlayers = activePlayerCounter.getStoryCount(storyId);
 
         Long totalPages = pageRepository.countPagesByStoryId(storyId);
 
@@ -481,33 +446,33 @@ public class GameService {
                 .storyTitle(story.getStoTitle())
                 .storyLength(story.getStoLength())
                 .totalPages(totalPages)
-                .currentPlayers(currentPlayers.size())
+                .currentPlayers((int) currentPlayers)
                 .stationName(story.getStation().getStaName())
                 .stationLine(story.getStation().getStaLine())
                 .build();
     }
 
-    @Transactional
     public int cleanupOldGameSessions(int daysOld) {
         java.time.LocalDateTime cutoffDate = java.time.LocalDateTime.now().minusDays(daysOld);
-        List<Now> oldSessions = nowRepository.findOldGameSessions(cutoffDate);
 
-        int cleanedCount = oldSessions.size();
+        int cleanedCount = 0;
+        int deleted;
+        do {
+            deleted = nowRepository.deleteOldGameSessions(cutoffDate, SESSION_CLEANUP_BATCH_SIZE);
+            cleanedCount += deleted;
+        } while (deleted == SESSION_CLEANUP_BATCH_SIZE);
 
-        for (Now session : oldSessions) {
-            nowRepository.delete(session);
-            log.info("오래된 게임 세션 정리: charId={}, 생성일={}",
-                    session.getCharacter().getCharId(), session.getCreatedAt());
+        if (cleanedCount > 0) {
+            activePlayerCounter.reconcile();
         }
 
+        log.info("오래된 게임 세션 정리 완료: 기준일={}, 삭제={}건", cutoffDate, cleanedCount);
         return cleanedCount;
     }
 
     @Transactional(readOnly = true)
     public GameEligibilityResponse checkGameEligibility() {
         try {
-            User currentUser = authService.getCurrentUser();
-
             Optional<CharacterResponse> characterOpt = characterService.getCurrentCharacterOptional();
             if (characterOpt.isEmpty()) {
                 return GameEligibilityResponse.builder()
@@ -527,7 +492,7 @@ public class GameService {
                         .build();
             }
 
-            Optional<Now> existingGame = nowRepository.findByCharacterId(character.getCharId());
+            Optional<Now> existingGame = requestIdentityContext.findActiveGame();
             if (existingGame.isPresent()) {
                 return GameEligibilityResponse.builder()
                         .canStartGame(false)
@@ -4,6 +4,8 @@ import com.example.backend.dto.metro.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,6 +14,7 @@ import reactor.util.retry.Retry;
 
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,12 +42,34 @@ public class MetroApiService {
     @Value("${seoul.metro.api.enabled-lines:1,2,3,4}")
     private String enabledLinesConfig;
 
+    @Value("${seoul.metro.monitoring.daily-limit:950}")
+    private int dailyLimit;
+
+    private static final String DAILY_CALL_COUNT_KEY = "metro:api:calls:";
+    private static final Duration DAILY_CALL_COUNT_TTL = Duration.ofDays(2);
+    private static final long LIMIT_REACHED = -1L;
+
+    private static final DefaultRedisScript<Long> RESERVE_CALL_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count > tonumber(ARGV[1]) then " +
+            "  redis.call('DECR', KEYS[1]) " +
+            "  return -1 " +
+            "end " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return count", Long.class);
+
     private final WebClient webClient;
-    private final AtomicInteger dailyCallCount = new AtomicInteger(0);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StationRegistry stationRegistry;
+    private final AtomicInteger localCallCount = new AtomicInteger(0);
     private List<String> enabledLines;
 
-    public MetroApiService(@Qualifier("metroWebClient") WebClient webClient) {
+    public MetroApiService(@Qualifier("metroWebClient") WebClient webClient,
+                           RedisTemplate<String, String> redisTemplate,
+                           StationRegistry stationRegistry) {
         this.webClient = webClient;
+        this.redisTemplate = redisTemplate;
+        this.stationRegistry = stationRegistry;
     }
 
     @PostConstruct
@@ -60,33 +85,34 @@ public class MetroApiService {
         log.info("API URL: {}", baseUrl);
     }
 
-    public Mono<List<TrainPosition>> getRealtimePositions(String lineNumber) {
+    public Mono<TrainPositionColumns> getRealtimeColumns(String lineNumber) {
         if (!apiEnabled || !isValidApiKey()) {
             return createRealisticMockData(lineNumber);
         }
 
-        return callSeoulMetroAPI(lineNumber)
-                .doOnSuccess(positions -> incrementCallCount())
-                .onErrorResume(error -> createRealisticMockData(lineNumber));
+        return callSeoulMetroAPI(lineNumber);
     }
 
-    private Mono<List<TrainPosition>> callSeoulMetroAPI(String lineNumber) {
+    private Mono<TrainPositionColumns> callSeoulMetroAPI(String lineNumber) {
         String url = buildOpenApiUrl(lineNumber);
 
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, response ->
-                    Mono.error(new RuntimeException("OpenAPI HTTP 에러: " + response.statusCode())))
-                .bodyToMono(RealtimePositionResponse.class)
+        return Mono.defer(() -> reserveCall() ?
+                        webClient.get()
+                                .uri(url)
+                                .retrieve()
+                                .onStatus(HttpStatusCode::isError, response ->
+                                    Mono.error(new RuntimeException("OpenAPI HTTP 에러: " + response.statusCode())))
+                                .bodyToMono(RealtimePositionResponse.class) :
+                        Mono.error(new DailyLimitExceededException(dailyLimit)))
                 .timeout(Duration.ofMillis(timeoutMs))
-                .retryWhen(Retry.fixedDelay(retryCount, Duration.ofSeconds(2)))
+                .retryWhen(Retry.fixedDelay(retryCount, Duration.ofSeconds(2))
+                        .filter(error -> !(error instanceof DailyLimitExceededException)))
                 .map(response -> processOpenApiResponse(response, lineNumber))
                 .onErrorMap(Exception.class, error ->
                         new RuntimeException("OpenAPI 호출 완전 실패: " + error.getMessage(), error));
     }
 
-    private List<TrainPosition> processOpenApiResponse(RealtimePositionResponse response, String lineNumber) {
+    private TrainPositionColumns processOpenApiResponse(RealtimePositionResponse response, String lineNumber) {
         if (response.isAnyError()) {
             String errorMsg = response.getUnifiedErrorMessage();
             throw new RuntimeException("API_ERROR: " + errorMsg);
@@ -97,80 +123,52 @@ public class MetroApiService {
         }
 
         List<RealtimePositionInfo> apiData = response.getRealtimePositionList();
-        return apiData.stream()
-                .map(this::convertApiDataToTrainPosition)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
-
-    private TrainPosition convertApiDataToTrainPosition(RealtimePositionInfo apiData) {
-        try {
-            return TrainPosition.builder()
-                    .trainId(apiData.getTrainNo())
-                    .lineNumber(Integer.valueOf(extractLineNumber(apiData.getSubwayId())))
-                    .stationId(apiData.getStatnId())
-                    .stationName(cleanStationName(apiData.getStatnNm()))
-                    .frontendStationId(cleanStationName(apiData.getStatnNm()))
-                    .direction(convertApiDirection(apiData.getUpdnLine()))
-                    .lastUpdated(LocalDateTime.now())
-                    .dataSource("SEOUL_OPENAPI")
-                    .realtime(true)
-                    .build();
-        } catch (Exception e) {
-            log.error("OpenAPI 데이터 변환 실패: {}", e.getMessage());
-            return null;
+        long receivedAt = System.currentTimeMillis();
+        TrainPositionColumns.Builder columns = TrainPositionColumns.builder(apiData.size(), "SEOUL_OPENAPI", true);
+
+        for (RealtimePositionInfo info : apiData) {
+            if (info == null || info.getTrainNo() == null) {
+                continue;
+            }
+
+            long stationId = StationRegistry.parseApiStationId(info.getStatnId());
+            StationRegistry.StationEntry station = stationRegistry.findByApiStationId(stationId);
+            columns.add(info.getTrainNo(),
+                    station != null ? station.getLineNumber() : extractLineNumber(info.getSubwayId()),
+                    stationId,
+                    station != null ? station.getName() : cleanStationName(info.getStatnNm()),
+                    convertApiDirection(info.getUpdnLine()),
+                    receivedAt);
         }
-    }
 
-        public Mono<List<TrainPosition>> getAllLinesRealtime() {
-        log.info("🚇 배치 시작: {}개 노선 조회 [{}]", enabledLines.size(), String.join(", ", enabledLines));
-        long startTime = System.currentTimeMillis();
-
-        List<Mono<List<TrainPosition>>> requests = enabledLines.stream()
-                .map(this::getRealtimePositions)
-                .collect(Collectors.toList());
-
-        return Mono.zip(requests, results -> {
-            List<TrainPosition> allTrains = Arrays.stream(results)
-                    .flatMap(result -> ((List<TrainPosition>) result).stream())
-                    .collect(Collectors.toList());
-
-            long realCount = allTrains.stream().filter(t -> "SEOUL_OPENAPI".equals(t.getDataSource())).count();
-            long mockCount = allTrains.stream().filter(t -> "MOCK_REALISTIC".equals(t.getDataSource())).count();
-            long duration = System.currentTimeMillis() - startTime;
-
-            log.info("🚇 배치 완료: 총 {}대 열차 (실제: {}대, Mock: {}대) | 소요시간: {}ms | API 호출수: {}",
-                    allTrains.size(), realCount, mockCount, duration, dailyCallCount.get());
-
-            return allTrains;
-        });
+        return columns.build();
     }
 
-    private Mono<List<TrainPosition>> createRealisticMockData(String lineNumber) {
-        List<String> stations = getStationsForLine(lineNumber);
+    private Mono<TrainPositionColumns> createRealisticMockData(String lineNumber) {
+        int line = Integer.parseInt(lineNumber);
+        List<StationRegistry.StationEntry> stations = stationRegistry.getFrontendLineStations(line);
+        if (stations.isEmpty()) {
+            log.warn("{}호선 역 정보 없음 - Mock 데이터 생성 생략", lineNumber);
+            return Mono.just(TrainPositionColumns.EMPTY);
+        }
+
         int trainCount = getRealisticTrainCountForTime(lineNumber);
-        List<TrainPosition> mockData = new ArrayList<>();
+        TrainPositionColumns.Builder mockData = TrainPositionColumns.builder(trainCount, "MOCK_REALISTIC", false);
         Random random = new Random();
+        long now = System.currentTimeMillis();
 
         for (int i = 0; i < trainCount; i++) {
-            String stationName = stations.get(random.nextInt(stations.size()));
-
-            TrainPosition position = TrainPosition.builder()
-                    .trainId(generateRealisticTrainId(lineNumber, i))
-                    .lineNumber(Integer.parseInt(lineNumber))
-                    .stationId("MOCK_" + lineNumber + String.format("%03d", i))
-                    .stationName(stationName)
-                    .frontendStationId(stationName)
-                    .direction(random.nextBoolean() ? "up" : "down")
-                    .lastUpdated(LocalDateTime.now().minusSeconds(random.nextInt(300)))
-                    .dataSource("MOCK_REALISTIC")
-                    .realtime(false)
-                    .build();
-
-            mockData.add(position);
+            StationRegistry.StationEntry station = stations.get(random.nextInt(stations.size()));
+
+            mockData.add(generateRealisticTrainId(lineNumber, i),
+                    line,
+                    station.getApiStationId(),
+                    station.getName(),
+                    random.nextBoolean() ? TrainPositionColumns.DIRECTION_UP : TrainPositionColumns.DIRECTION_DOWN,
+                    now - random.nextInt(300) * 1000L);
         }
 
-        return Mono.just(mockData);
+        return Mono.just(mockData.build());
     }
 
     private String buildOpenApiUrl(String lineNumber) {
@@ -186,16 +184,6 @@ public class MetroApiService {
                 apiKey.length() > 10;
     }
 
-    private List<String> getStationsForLine(String lineNumber) {
-        Map<String, List<String>> stationsByLine = Map.of(
-                "1", Arrays.asList("서울역", "종각", "시청", "용산", "영등포", "구로", "온수"),
-                "2", Arrays.asList("을지로입구", "건대입구", "잠실", "강남", "사당", "홍대입구", "신촌"),
-                "3", Arrays.asList("구파발", "불광", "독립문", "종로3가", "압구정", "교대", "양재"),
-                "4", Arrays.asList("당고개", "창동", "혜화", "명동", "서울역", "사당")
-        );
-        return stationsByLine.getOrDefault(lineNumber, Arrays.asList("역1", "역2", "역3"));
-    }
-
     private int getRealisticTrainCountForTime(String lineNumber) {
         Map<String, Integer> baseCounts = Map.of("1", 8, "2", 12, "3", 7, "4", 6);
         int baseCount = baseCounts.getOrDefault(lineNumber, 5);
@@ -218,28 +206,52 @@ public class MetroApiService {
         return stationName.replaceAll("\\([^)]*\\)", "").trim();
     }
 
-    private String convertApiDirection(String updnLine) {
-        if ("0".equals(updnLine)) return "up";
-        if ("1".equals(updnLine)) return "down";
-        return updnLine != null ? updnLine : "unknown";
+    private byte convertApiDirection(String updnLine) {
+        if ("0".equals(updnLine)) return TrainPositionColumns.DIRECTION_UP;
+        if ("1".equals(updnLine)) return TrainPositionColumns.DIRECTION_DOWN;
+        return TrainPositionColumns.DIRECTION_UNKNOWN;
     }
 
-    private String extractLineNumber(String subwayId) {
+    private int extractLineNumber(String subwayId) {
         if (subwayId == null || subwayId.length() < 4) {
-            return "1";
+            return 1;
         }
+        char line = subwayId.charAt(3);
+        return line >= '0' && line <= '9' ? line - '0' : 1;
+    }
+
+    private boolean reserveCall() {
+        long count;
         try {
-            return subwayId.substring(3, 4);
+            Long shared = redisTemplate.execute(RESERVE_CALL_SCRIPT, List.of(dailyCallCountKey()),
+                    String.valueOf(dailyLimit), String.valueOf(DAILY_CALL_COUNT_TTL.toMillis()));
+            count = shared != null ? shared : reserveLocalCall();
         } catch (Exception e) {
-            return "1";
+            log.warn("공유 API 호출 카운터 예약 실패 - 로컬 카운터 사용: {}", e.getMessage());
+            count = reserveLocalCall();
         }
-    }
 
-    private void incrementCallCount() {
-        int count = dailyCallCount.incrementAndGet();
+        if (count == LIMIT_REACHED) {
+            log.warn("일일 OpenAPI 호출 한도 도달로 호출 생략: 한도 {}", dailyLimit);
+            return false;
+        }
         if (count % 10 == 0) {
             log.info("일일 OpenAPI 호출 수: {}", count);
         }
+        return true;
+    }
+
+    private long reserveLocalCall() {
+        int count = localCallCount.incrementAndGet();
+        if (count > dailyLimit) {
+            localCallCount.decrementAndGet();
+            return LIMIT_REACHED;
+        }
+        return count;
+    }
+
+    private String dailyCallCountKey() {
+        return DAILY_CALL_COUNT_KEY + LocalDate.now();
     }
 
     public List<String> getEnabledLines() {
@@ -251,11 +263,17 @@ public class MetroApiService {
     }
 
     public int getDailyCallCount() {
-        return dailyCallCount.get();
+        try {
+            String shared = redisTemplate.opsForValue().get(dailyCallCountKey());
+            return Math.max(shared != null ? Integer.parseInt(shared) : 0, localCallCount.get());
+        } catch (Exception e) {
+            log.warn("공유 API 호출 카운터 조회 실패 - 로컬 카운터 사용: {}", e.getMessage());
+            return localCallCount.get();
+        }
     }
 
     public void resetDailyCallCount() {
-        dailyCallCount.set(0);
+        localCallCount.set(0);
         log.info("일일 API 호출 카운트 초기화");
     }
 
@@ -267,10 +285,16 @@ public class MetroApiService {
         return Map.of(
                 "apiEnabled", apiEnabled,
                 "validApiKey", isValidApiKey(),
-                "dailyCalls", dailyCallCount.get(),
+                "dailyCalls", getDailyCallCount(),
                 "enabledLines", enabledLines,
                 "baseUrl", baseUrl,
                 "timeout", timeoutMs
         );
     }
-}
\ No newline at end of file
+
+    private static final class DailyLimitExceededException extends RuntimeException {
+        private DailyLimitExceededException(int dailyLimit) {
+            super("API_LIMIT: 일일 호출 한도 도달 (" + dailyLimit + ")");
+        }
+    }
+}
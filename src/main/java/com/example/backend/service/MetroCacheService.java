@@ -1,16 +1,29 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -20,89 +33,210 @@ public class MetroCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MetroApiService metroApiService;
 
     @Value("${seoul.metro.cache.ttl:420}")
     private int cacheTtlSeconds;
 
+    @Value("${seoul.metro.cache.max-stale:1800}")
+    private int maxStaleSeconds;
+
     private static final String METRO_POSITIONS_KEY = "metro:positions:line:";
-    private static final String METRO_ALL_POSITIONS_KEY = "metro:all_positions";
+    private static final String METRO_META_KEY = "metro:positions:meta:";
     private static final String METRO_HEALTH_KEY = "metro:health";
     private static final String METRO_LAST_UPDATE_KEY = "metro:last_update";
 
-    public void cacheLinePositions(String lineNumber, List<TrainPosition> positions) {
-        try {
-            String key = METRO_POSITIONS_KEY + lineNumber;
+    private static final String META_COUNT = "count";
+    private static final String META_LAST_UPDATED = "lastUpdated";
+    private static final String META_NEXT_UPDATE = "nextUpdate";
+    private static final String META_HASH = "hash";
+    private static final String META_BYTES = "bytes";
+    private static final String META_BASE = "base";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Map<String, WrittenContent> writtenContents = new ConcurrentHashMap<>();
 
-            PositionCacheData cacheData = PositionCacheData.builder()
+    public Map<String, PositionCacheData> cacheLinePositions(Map<String, TrainPositionColumns> positionsByLine,
+                                                             Map<String, Long> ttlSecondsByLine) {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = toMillis(now);
+        Map<String, PositionCacheData> cached = new LinkedHashMap<>();
+        List<LineWrite> writes = new ArrayList<>();
+
+        positionsByLine.forEach((lineNumber, columns) -> {
+            long ttl = Math.max(cacheTtlSeconds, ttlSecondsByLine.getOrDefault(lineNumber, 0L));
+            LocalDateTime nextUpdateTime = now.plusSeconds(ttl);
+
+            cached.put(lineNumber, PositionCacheData.builder()
                     .lineNumber(lineNumber)
-                    .positions(positions)
-                    .lastUpdated(LocalDateTime.now())
-                    .nextUpdateTime(LocalDateTime.now().plusSeconds(cacheTtlSeconds))
+                    .positions(columns.asPositions())
+                    .columns(columns)
+                    .lastUpdated(now)
+                    .nextUpdateTime(nextUpdateTime)
                     .isHealthy(true)
                     .dataSource("API")
-                    .build();
-
-            String jsonData = objectMapper.writeValueAsString(cacheData);
-            redisTemplate.opsForValue().set(key, jsonData, cacheTtlSeconds, TimeUnit.SECONDS);
+                    .build());
+
+            try {
+                String hash = MetroPositionCodec.contentHash(columns);
+                WrittenContent written = writtenContents.get(lineNumber);
+                boolean unchanged = written != null && hash.equals(written.getContentHash());
+                long baseMillis = unchanged ? written.getBaseMillis() : nowMillis;
+
+                byte[] body = MetroPositionCodec.encode(columns, baseMillis);
+                writes.add(new LineWrite(lineNumber, body, hash, baseMillis, unchanged,
+                        ttl + maxStaleSeconds, metadataFields(columns.size(), nowMillis,
+                        toMillis(nextUpdateTime), hash, body.length, baseMillis)));
+            } catch (Exception e) {
+                log.error("{}호선 위치 데이터 인코딩 실패: {}", lineNumber, e.getMessage());
+            }
+        });
 
-        } catch (Exception e) {
-            log.error("{}호선 위치 데이터 캐시 저장 실패: {}", lineNumber, e.getMessage());
+        if (!writes.isEmpty()) {
+            writeLines(writes);
         }
+        return cached;
     }
 
-    public PositionCacheData getLinePositions(String lineNumber) {
-        try {
-            String key = METRO_POSITIONS_KEY + lineNumber;
-            Object cachedData = redisTemplate.opsForValue().get(key);
+    private void writeLines(List<LineWrite> writes) {
+        List<LineWrite> unchanged = writes.stream().filter(LineWrite::isUnchanged).toList();
 
-            if (cachedData == null) {
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (LineWrite write : unchanged) {
+                    connection.keyCommands().expire(dataKey(write.getLineNumber()), write.getTtlSeconds());
+                }
+                for (LineWrite write : writes) {
+                    if (!write.isUnchanged()) {
+                        connection.stringCommands().set(dataKey(write.getLineNumber()), write.getBody(),
+                                Expiration.seconds(write.getTtlSeconds()), RedisStringCommands.SetOption.upsert());
+                    }
+                    byte[] metaKey = metaKey(write.getLineNumber());
+                    connection.hashCommands().hMSet(metaKey, write.getMetadata());
+                    connection.keyCommands().expire(metaKey, write.getTtlSeconds());
+                }
                 return null;
-            }
+            });
 
-            PositionCacheData result = objectMapper.readValue(cachedData.toString(), PositionCacheData.class);
-            return result;
+            List<LineWrite> missing = new ArrayList<>();
+            for (int i = 0; i < unchanged.size(); i++) {
+                if (!Boolean.TRUE.equals(results.get(i))) {
+                    missing.add(unchanged.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (LineWrite write : missing) {
+                        connection.stringCommands().set(dataKey(write.getLineNumber()), write.getBody(),
+                                Expiration.seconds(write.getTtlSeconds()), RedisStringCommands.SetOption.upsert());
+                    }
+                    return null;
+                });
+            }
 
+            writes.forEach(write -> writtenContents.put(write.getLineNumber(),
+                    new WrittenContent(write.getContentHash(), write.getBaseMillis())));
+            log.debug("노선 위치 캐시 저장: 변경 {}개, 유지 {}개", writes.size() - unchanged.size(), unchanged.size());
         } catch (Exception e) {
-            log.error("{}호선 위치 데이터 캐시 조회 실패: {}", lineNumber, e.getMessage());
-            return null;
+            writes.forEach(write -> writtenContents.remove(write.getLineNumber()));
+            log.error("노선 위치 데이터 캐시 저장 실패 ({}): {}",
+                    writes.stream().map(LineWrite::getLineNumber).toList(), e.getMessage());
         }
     }
 
-    public void cacheAllPositions(List<TrainPosition> allPositions) {
+    public void forgetWrittenContent() {
+        writtenContents.clear();
+    }
+
+    public PositionCacheData getLinePositions(String lineNumber) {
         try {
-            PositionCacheData cacheData = PositionCacheData.builder()
-                    .lineNumber("ALL")
-                    .positions(allPositions)
-                    .lastUpdated(LocalDateTime.now())
-                    .nextUpdateTime(LocalDateTime.now().plusSeconds(cacheTtlSeconds))
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hGetAll(metaKey(lineNumber));
+                connection.stringCommands().get(dataKey(lineNumber));
+                return null;
+            }, RedisSerializer.byteArray());
+
+            LineMetadata metadata = toMetadata(lineNumber, results.get(0));
+            Object body = results.get(1);
+            if (metadata == null || !(body instanceof byte[] bytes)) {
+                return null;
+            }
+
+            TrainPositionColumns columns = MetroPositionCodec.decode(bytes, metadata.getBaseMillis());
+            return PositionCacheData.builder()
+                    .lineNumber(lineNumber)
+                    .positions(columns.asPositions())
+                    .columns(columns)
+                    .lastUpdated(metadata.getLastUpdated())
+                    .nextUpdateTime(metadata.getNextUpdateTime())
                     .isHealthy(true)
                     .dataSource("API")
                     .build();
 
-            String jsonData = objectMapper.writeValueAsString(cacheData);
-            redisTemplate.opsForValue().set(METRO_ALL_POSITIONS_KEY, jsonData, cacheTtlSeconds, TimeUnit.SECONDS);
-            log.info("전체 노선 위치 데이터 캐시 저장: {}대 열차", allPositions != null ? allPositions.size() : 0);
-
         } catch (Exception e) {
-            log.error("전체 노선 위치 데이터 캐시 저장 실패: {}", e.getMessage());
+            log.error("{}호선 위치 데이터 캐시 조회 실패: {}", lineNumber, e.getMessage());
+            return null;
         }
     }
 
-    public PositionCacheData getAllPositions() {
-        try {
-            Object cachedData = redisTemplate.opsForValue().get(METRO_ALL_POSITIONS_KEY);
+    public LineMetadata getLineMetadata(String lineNumber) {
+        return getLineMetadata(List.of(lineNumber)).get(lineNumber);
+    }
 
-            if (cachedData == null) {
+    public Map<String, LineMetadata> getLineMetadata(List<String> lineNumbers) {
+        Map<String, LineMetadata> metadata = new LinkedHashMap<>();
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                lineNumbers.forEach(lineNumber -> connection.hashCommands().hGetAll(metaKey(lineNumber)));
                 return null;
+            }, RedisSerializer.byteArray());
+
+            for (int i = 0; i < lineNumbers.size(); i++) {
+                LineMetadata line = toMetadata(lineNumbers.get(i), results.get(i));
+                if (line != null) {
+                    metadata.put(lineNumbers.get(i), line);
+                }
             }
+        } catch (Exception e) {
+            log.error("노선 위치 메타데이터 조회 실패: {}", e.getMessage());
+        }
 
-            PositionCacheData result = objectMapper.readValue(cachedData.toString(), PositionCacheData.class);
-            return result;
+        return metadata;
+    }
 
-        } catch (Exception e) {
-            log.error("전체 노선 위치 데이터 캐시 조회 실패: {}", e.getMessage(), e);
+    public PositionCacheData assembleAllPositions(List<PositionCacheData> lineData) {
+        if (lineData.isEmpty()) {
             return null;
         }
+
+        List<TrainPositionColumns> columns = new ArrayList<>();
+        LocalDateTime lastUpdated = null;
+        LocalDateTime nextUpdateTime = null;
+        boolean healthy = true;
+
+        for (PositionCacheData data : lineData) {
+            columns.add(data.getColumns() != null ? data.getColumns() : TrainPositionColumns.of(data.getPositions()));
+            if (data.getLastUpdated() != null && (lastUpdated == null || data.getLastUpdated().isBefore(lastUpdated))) {
+                lastUpdated = data.getLastUpdated();
+            }
+            if (data.getNextUpdateTime() != null
+                    && (nextUpdateTime == null || data.getNextUpdateTime().isBefore(nextUpdateTime))) {
+                nextUpdateTime = data.getNextUpdateTime();
+            }
+            healthy &= !Boolean.FALSE.equals(data.getIsHealthy());
+        }
+
+        TrainPositionColumns assembled = TrainPositionColumns.concat(columns);
+        return PositionCacheData.builder()
+                .lineNumber("ALL")
+                .positions(assembled.asPositions())
+                .columns(assembled)
+                .lastUpdated(lastUpdated)
+                .nextUpdateTime(nextUpdateTime)
+                .isHealthy(healthy)
+                .dataSource("API")
+                .build();
     }
 
     public void cacheHealthStatus(String status, String details) {
@@ -158,20 +292,38 @@ public class MetroCacheService {
     }
 
     public boolean isCacheValid(PositionCacheData cacheData) {
-        if (cacheData == null || cacheData.getLastUpdated() == null) {
-            return false;
-        }
+        return cacheData != null && isServable(cacheData.getLastUpdated(), cacheData.getNextUpdateTime());
+    }
+
+    public boolean isCacheValid(LineMetadata metadata) {
+        return metadata != null && isServable(metadata.getLastUpdated(), metadata.getNextUpdateTime());
+    }
+
+    public boolean isFresh(PositionCacheData cacheData) {
+        return cacheData != null && isFresh(cacheData.getLastUpdated(), cacheData.getNextUpdateTime());
+    }
+
+    public boolean isFresh(LineMetadata metadata) {
+        return metadata != null && isFresh(metadata.getLastUpdated(), metadata.getNextUpdateTime());
+    }
 
-        LocalDateTime expireTime = cacheData.getLastUpdated().plusSeconds(cacheTtlSeconds);
-        boolean isValid = LocalDateTime.now().isBefore(expireTime);
+    private boolean isServable(LocalDateTime lastUpdated, LocalDateTime nextUpdateTime) {
+        return lastUpdated != null
+                && LocalDateTime.now().isBefore(freshUntil(lastUpdated, nextUpdateTime).plusSeconds(maxStaleSeconds));
+    }
+
+    private boolean isFresh(LocalDateTime lastUpdated, LocalDateTime nextUpdateTime) {
+        return lastUpdated != null && LocalDateTime.now().isBefore(freshUntil(lastUpdated, nextUpdateTime));
+    }
 
-        return isValid;
+    private LocalDateTime freshUntil(LocalDateTime lastUpdated, LocalDateTime nextUpdateTime) {
+        return nextUpdateTime != null ? nextUpdateTime : lastUpdated.plusSeconds(cacheTtlSeconds);
     }
 
     public void evictLineCache(String lineNumber) {
         try {
-            String key = METRO_POSITIONS_KEY + lineNumber;
-            redisTemplate.delete(key);
+            writtenContents.remove(lineNumber);
+            redisTemplate.delete(List.of(METRO_POSITIONS_KEY + lineNumber, METRO_META_KEY + lineNumber));
 
         } catch (Exception e) {
             log.error("{}호선 캐시 삭제 실패: {}", lineNumber, e.getMessage(), e);
@@ -180,12 +332,10 @@ public class MetroCacheService {
 
     public void evictAllMetroCache() {
         try {
-            for (String line : Arrays.asList("1", "2", "3", "4")) {
+            for (String line : metroApiService.getEnabledLines()) {
                 evictLineCache(line);
             }
 
-            redisTemplate.delete(METRO_ALL_POSITIONS_KEY);
-
             redisTemplate.delete(METRO_HEALTH_KEY);
             redisTemplate.delete(METRO_LAST_UPDATE_KEY);
 
@@ -202,21 +352,17 @@ public class MetroCacheService {
             int totalTrains = 0;
             LocalDateTime oldestUpdate = LocalDateTime.now();
 
-            for (String line : Arrays.asList("1", "2", "3", "4")) {
-                PositionCacheData lineData = getLinePositions(line);
-                if (lineData != null && isCacheValid(lineData)) {
+            for (LineMetadata lineData : getLineMetadata(metroApiService.getEnabledLines()).values()) {
+                if (isCacheValid(lineData)) {
                     activeCaches++;
-                    if (lineData.getPositions() != null) {
-                        totalTrains += lineData.getPositions().size();
-                    }
+                    totalTrains += lineData.getTrainCount();
                     if (lineData.getLastUpdated().isBefore(oldestUpdate)) {
                         oldestUpdate = lineData.getLastUpdated();
                     }
                 }
             }
 
-            PositionCacheData allData = getAllPositions();
-            boolean hasAllPositionsCache = allData != null && isCacheValid(allData);
+            boolean hasAllPositionsCache = activeCaches > 0;
 
             return new CacheStatistics(activeCaches, totalTrains, hasAllPositionsCache,
                     oldestUpdate, getLastUpdateTime());
@@ -227,9 +373,96 @@ public class MetroCacheService {
         }
     }
 
+    private static byte[] dataKey(String lineNumber) {
+        return (METRO_POSITIONS_KEY + lineNumber).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] metaKey(String lineNumber) {
+        return (METRO_META_KEY + lineNumber).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<byte[], byte[]> metadataFields(int trainCount, long lastUpdated, long nextUpdateTime,
+                                                      String contentHash, int encodedBytes, long baseMillis) {
+        Map<byte[], byte[]> fields = new HashMap<>();
+        fields.put(utf8(META_COUNT), utf8(String.valueOf(trainCount)));
+        fields.put(utf8(META_LAST_UPDATED), utf8(String.valueOf(lastUpdated)));
+        fields.put(utf8(META_NEXT_UPDATE), utf8(String.valueOf(nextUpdateTime)));
+        fields.put(utf8(META_HASH), utf8(contentHash));
+        fields.put(utf8(META_BYTES), utf8(String.valueOf(encodedBytes)));
+        fields.put(utf8(META_BASE), utf8(String.valueOf(baseMillis)));
+        return fields;
+    }
+
+    private static LineMetadata toMetadata(String lineNumber, Object result) {
+        if (!(result instanceof Map<?, ?> raw) || raw.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        raw.forEach((field, value) -> fields.put(
+                new String((byte[]) field, StandardCharsets.UTF_8), new String((byte[]) value, StandardCharsets.UTF_8)));
+
+        String lastUpdated = fields.get(META_LAST_UPDATED);
+        if (lastUpdated == null) {
+            return null;
+        }
+
+        String nextUpdate = fields.get(META_NEXT_UPDATE);
+        String base = fields.get(META_BASE);
+        return new LineMetadata(lineNumber,
+                Integer.parseInt(fields.getOrDefault(META_COUNT, "0")),
+                fromMillis(Long.parseLong(lastUpdated)),
+                nextUpdate != null ? fromMillis(Long.parseLong(nextUpdate)) : null,
+                fields.get(META_HASH),
+                Integer.parseInt(fields.getOrDefault(META_BYTES, "0")),
+                Long.parseLong(base != null ? base : lastUpdated));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    @lombok.Value
+    private static class LineWrite {
+        String lineNumber;
+        byte[] body;
+        String contentHash;
+        long baseMillis;
+        boolean unchanged;
+        long ttlSeconds;
+        Map<byte[], byte[]> metadata;
+    }
+
+    @lombok.Value
+    public static class LineMetadata {
+        String lineNumber;
+        int trainCount;
+        LocalDateTime lastUpdated;
+        LocalDateTime nextUpdateTime;
+        String contentHash;
+        int encodedBytes;
+        long baseMillis;
+    }
+
+    @lombok.Value
+    private static class WrittenContent {
+        String contentHash;
+        long baseMillis;
+    }
+
     public static class PositionCacheData {
         public String lineNumber;
         public List<TrainPosition> positions;
+        @JsonIgnore
+        public TrainPositionColumns columns;
         public LocalDateTime lastUpdated;
         public LocalDateTime nextUpdateTime;
         public Boolean isHealthy;
@@ -254,6 +487,11 @@ public class MetroCacheService {
                 return this;
             }
 
+            public PositionCacheDataBuilder columns(TrainPositionColumns columns) {
+                data.columns = columns;
+                return this;
+            }
+
             public PositionCacheDataBuilder lastUpdated(LocalDateTime lastUpdated) {
                 data.lastUpdated = lastUpdated;
                 return this;
@@ -281,6 +519,8 @@ public class MetroCacheService {
 
         public String getLineNumber() { return lineNumber; }
         public List<TrainPosition> getPositions() { return positions; }
+        @JsonIgnore
+        public TrainPositionColumns getColumns() { return columns; }
         public LocalDateTime getLastUpdated() { return lastUpdated; }
         public LocalDateTime getNextUpdateTime() { return nextUpdateTime; }
         public Boolean getIsHealthy() { return isHealthy; }
@@ -0,0 +1,279 @@
+package com.example.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetroCallBudgetPlanner {
+
+    private static final int OPERATING_START_HOUR = 6;
+    private static final int OPERATING_END_HOUR = 24;
+    private static final double BASE_LINE_WEIGHT = 0.25;
+    private static final double DEMAND_DECAY = 0.5;
+    private static final long SUBSCRIPTION_DEMAND = 10L;
+    private static final int MAX_BACKOFF_EXPONENT = 5;
+    private static final long FRESHNESS_GRACE_SECONDS = 60L;
+    private static final String DEMAND_KEY = "metro:api:demand";
+    private static final String DEMAND_DECAY_KEY = "metro:api:demand:decayed";
+
+    private static final DefaultRedisScript<Long> DECAY_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then return 0 end " +
+            "local fields = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #fields, 2 do " +
+            "  local value = math.floor(tonumber(fields[i + 1]) * tonumber(ARGV[1])) " +
+            "  if value > 0 then redis.call('HSET', KEYS[1], fields[i], value) " +
+            "  else redis.call('HDEL', KEYS[1], fields[i]) end " +
+            "end " +
+            "return 1", Long.class);
+
+    private final MetroApiService metroApiService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${seoul.metro.monitoring.daily-limit:950}")
+    private int dailyLimit;
+
+    @Value("${seoul.metro.api.update-interval:360000}")
+    private long defaultIntervalMs;
+
+    @Value("${seoul.metro.budget.min-interval:60000}")
+    private long minIntervalMs;
+
+    @Value("${seoul.metro.budget.reserve-ratio:0.05}")
+    private double reserveRatio;
+
+    @Value("${seoul.metro.budget.max-backoff:1800000}")
+    private long maxBackoffMs;
+
+    @Value("${seoul.metro.budget.replan-interval:600000}")
+    private long replanIntervalMs;
+
+    private final Map<String, AtomicLong> demand = new ConcurrentHashMap<>();
+    private final Map<String, LineSchedule> schedules = new HashMap<>();
+    private Map<String, Long> plannedIntervals = Map.of();
+    private LocalDateTime lastPlannedAt = null;
+
+    public void recordLineRequest(String lineNumber) {
+        addDemand(lineNumber, 1L);
+    }
+
+    public void recordAllLinesRequest() {
+        metroApiService.getEnabledLines().forEach(line -> addDemand(line, 1L));
+    }
+
+    public void recordLineSubscription(String lineNumber) {
+        addDemand(lineNumber, SUBSCRIPTION_DEMAND);
+    }
+
+    public void recordAllLinesSubscription() {
+        metroApiService.getEnabledLines().forEach(line -> addDemand(line, SUBSCRIPTION_DEMAND));
+    }
+
+    public synchronized List<String> claimDueLines(LocalDateTime now) {
+        if (lastPlannedAt == null) {
+            replan();
+        }
+
+        List<String> due = new ArrayList<>();
+        for (String line : metroApiService.getEnabledLines()) {
+            LineSchedule schedule = schedules.computeIfAbsent(line, key -> new LineSchedule());
+            if (schedule.inFlight || schedule.nextRunAt.isAfter(now)) {
+                continue;
+            }
+            due.add(line);
+        }
+
+        due.sort(Comparator.comparing(line -> schedules.get(line).nextRunAt));
+        due.forEach(line -> schedules.get(line).inFlight = true);
+        return due;
+    }
+
+    public synchronized void recordSuccess(String lineNumber, LocalDateTime now) {
+        LineSchedule schedule = schedules.computeIfAbsent(lineNumber, key -> new LineSchedule());
+        schedule.inFlight = false;
+        schedule.consecutiveFailures = 0;
+        schedule.nextRunAt = now.plus(Duration.ofMillis(intervalOf(lineNumber)));
+    }
+
+    public synchronized void recordFailure(String lineNumber, LocalDateTime now) {
+        LineSchedule schedule = schedules.computeIfAbsent(lineNumber, key -> new LineSchedule());
+        schedule.inFlight = false;
+        schedule.consecutiveFailures++;
+
+        long backoff = intervalOf(lineNumber) << Math.min(schedule.consecutiveFailures, MAX_BACKOFF_EXPONENT);
+        long delay = Math.max(intervalOf(lineNumber), Math.min(backoff, maxBackoffMs));
+        schedule.nextRunAt = now.plus(Duration.ofMillis(delay));
+
+        log.warn("{}호선 호출 실패 {}회 - 다음 호출 {}초 후", lineNumber, schedule.consecutiveFailures, delay / 1000);
+    }
+
+    public synchronized void release(String lineNumber) {
+        LineSchedule schedule = schedules.get(lineNumber);
+        if (schedule != null) {
+            schedule.inFlight = false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.metro.budget.replan-interval:600000}")
+    public synchronized void scheduledReplan() {
+        replan();
+        try {
+            redisTemplate.execute(DECAY_SCRIPT, List.of(DEMAND_KEY, DEMAND_DECAY_KEY),
+                    String.valueOf(DEMAND_DECAY), String.valueOf(Math.max(1000L, replanIntervalMs - 1000L)));
+        } catch (Exception e) {
+            log.warn("노선 수요 감쇠 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.metro.budget.demand-flush-interval:30000}")
+    public void flushDemand() {
+        Map<String, Long> deltas = new HashMap<>();
+        demand.forEach((line, count) -> {
+            long delta = count.getAndSet(0);
+            if (delta > 0) {
+                deltas.put(line, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = DEMAND_KEY.getBytes(StandardCharsets.UTF_8);
+                deltas.forEach((line, delta) ->
+                        connection.hashCommands().hIncrBy(key, line.getBytes(StandardCharsets.UTF_8), delta));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("노선 수요 집계 전송 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            deltas.forEach(this::addDemand);
+        }
+    }
+
+    public synchronized void replan() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> lines = metroApiService.getEnabledLines();
+
+        long usableCalls = (long) (dailyLimit * (1.0 - reserveRatio));
+        long remainingCalls = usableCalls - metroApiService.getDailyCallCount();
+        double weightedSecondsLeft = weightedSecondsUntilClose(now);
+
+        Map<String, Double> lineWeights = computeLineWeights(lines);
+        double totalWeight = lineWeights.values().stream().mapToDouble(Double::doubleValue).sum();
+
+        Map<String, Long> intervals = new HashMap<>();
+        for (String line : lines) {
+            if (remainingCalls <= 0 || weightedSecondsLeft <= 0 || totalWeight <= 0) {
+                intervals.put(line, maxBackoffMs);
+                continue;
+            }
+
+            double callsPerSecond = remainingCalls / weightedSecondsLeft * hourWeight(now.getHour())
+                    * lineWeights.get(line) / totalWeight;
+            long interval = (long) Math.ceil(1000.0 / callsPerSecond);
+            intervals.put(line, Math.max(minIntervalMs, interval));
+        }
+
+        plannedIntervals = Map.copyOf(intervals);
+        lastPlannedAt = now;
+
+        log.debug("API 호출 예산 재계획: 남은 호출 {}회, 노선별 주기(ms) {}", remainingCalls, plannedIntervals);
+    }
+
+    public synchronized Map<String, Long> getPlannedIntervals() {
+        return plannedIntervals;
+    }
+
+    public synchronized long getFreshnessSeconds(String lineNumber) {
+        return intervalOf(lineNumber) / 1000 + FRESHNESS_GRACE_SECONDS;
+    }
+
+    private long intervalOf(String lineNumber) {
+        return plannedIntervals.getOrDefault(lineNumber, defaultIntervalMs);
+    }
+
+    private Map<String, Double> computeLineWeights(List<String> lines) {
+        Map<String, Long> sharedDemand = loadSharedDemand();
+        long totalDemand = lines.stream()
+                .mapToLong(line -> sharedDemand.getOrDefault(line, 0L))
+                .sum();
+
+        Map<String, Double> weights = new HashMap<>();
+        for (String line : lines) {
+            double share = totalDemand > 0 ?
+                    (double) sharedDemand.getOrDefault(line, 0L) / totalDemand : 1.0 / lines.size();
+            weights.put(line, BASE_LINE_WEIGHT + share);
+        }
+        return weights;
+    }
+
+    private Map<String, Long> loadSharedDemand() {
+        flushDemand();
+
+        Map<String, Long> shared = new HashMap<>();
+        try {
+            redisTemplate.<String, String>opsForHash().entries(DEMAND_KEY)
+                    .forEach((line, count) -> shared.put(line, Long.parseLong(count)));
+        } catch (Exception e) {
+            log.warn("노선 수요 조회 실패 - 로컬 집계로 대체: {}", e.getMessage());
+            demand.forEach((line, count) -> shared.put(line, count.get()));
+        }
+        return shared;
+    }
+
+    private static double weightedSecondsUntilClose(LocalDateTime now) {
+        LocalDateTime cursor = now.getHour() < OPERATING_START_HOUR ?
+                now.toLocalDate().atTime(OPERATING_START_HOUR, 0) : now;
+        LocalDateTime close = now.toLocalDate().atStartOfDay().plusHours(OPERATING_END_HOUR);
+
+        double weighted = 0.0;
+        while (cursor.isBefore(close)) {
+            LocalDateTime hourEnd = cursor.withMinute(0).withSecond(0).withNano(0).plusHours(1);
+            LocalDateTime segmentEnd = hourEnd.isBefore(close) ? hourEnd : close;
+            weighted += Duration.between(cursor, segmentEnd).getSeconds() * hourWeight(cursor.getHour());
+            cursor = segmentEnd;
+        }
+        return weighted;
+    }
+
+    private static double hourWeight(int hour) {
+        if (hour >= 7 && hour <= 9 || hour >= 18 && hour <= 20) {
+            return 2.0;
+        }
+        if (hour >= 22) {
+            return 0.5;
+        }
+        return 1.0;
+    }
+
+    private void addDemand(String lineNumber, long amount) {
+        if (lineNumber != null && metroApiService.isLineEnabled(lineNumber)) {
+            demand.computeIfAbsent(lineNumber, key -> new AtomicLong()).addAndGet(amount);
+        }
+    }
+
+    private static final class LineSchedule {
+        private LocalDateTime nextRunAt = LocalDateTime.MIN;
+        private boolean inFlight = false;
+        private int consecutiveFailures = 0;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.backend.service;
 
-import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,12 +8,17 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -23,6 +28,9 @@ public class MetroDataScheduler {
     private final MetroApiService metroApiService;
     private final MetroCacheService metroCacheService;
     private final MetroStationFilter stationFilter;
+    private final MetroPositionSnapshotCache positionSnapshotCache;
+    private final MetroCallBudgetPlanner budgetPlanner;
+    private final MetroPollerLeadership pollerLeadership;
 
     @Value("${seoul.metro.api.enabled:true}")
     private boolean apiEnabled;
@@ -30,33 +38,83 @@ public class MetroDataScheduler {
     @Value("${seoul.metro.monitoring.daily-limit:950}")
     private int dailyLimit;
 
-    private final AtomicBoolean isUpdating = new AtomicBoolean(false);
+    private final AtomicInteger inFlightLines = new AtomicInteger(0);
+    private final AtomicBoolean polling = new AtomicBoolean(false);
     private LocalDateTime lastSuccessfulUpdate = null;
     private LocalDateTime lastLimitWarningTime = null;
     private int consecutiveFailures = 0;
     private static final int MAX_CONSECUTIVE_FAILURES = 5;
+    private static final Duration LINE_BATCH_WINDOW = Duration.ofSeconds(2);
 
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         log.info("=== 지하철 실시간 위치 시스템 시작 ===");
         log.info("API 활성화: {}", apiEnabled);
-        log.info("프론트엔드 역 필터링: {}개 역",
-                stationFilter.getFrontendStationIds() != null ?
-                        stationFilter.getFrontendStationIds().size() : 0);
+        log.info("프론트엔드 역 필터링: {}개 역", stationFilter.getFrontendStationCount());
 
         new Thread(() -> {
             try {
                 Thread.sleep(5000);
-                updateAllMetroPositions();
+                pollerLeadership.renewOrAcquire();
+                if (pollerLeadership.isLeader() && polling.compareAndSet(false, true)
+                        && resumeFromSharedCache() == 0) {
+                    updateAllMetroPositions();
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
         }).start();
     }
 
-    @Scheduled(fixedRateString = "${seoul.metro.api.update-interval:360000}")
+    @Scheduled(fixedDelayString = "${seoul.metro.budget.tick-interval:15000}",
+            initialDelayString = "${seoul.metro.budget.tick-interval:15000}")
     public void scheduledUpdate() {
-        updateAllMetroPositions();
+        if (!apiEnabled) {
+            return;
+        }
+
+        if (!isOperatingHours()) {
+            if (metroCacheService != null) {
+                metroCacheService.cacheHealthStatus("NIGHT_MODE", "심야시간 - 지하철 운행 중단");
+            }
+            return;
+        }
+
+        if (!pollerLeadership.isLeader()) {
+            if (polling.compareAndSet(true, false)) {
+                log.info("지하철 폴러 리더가 아님 - 다른 노드의 스냅샷을 사용합니다");
+            }
+            return;
+        }
+
+        if (polling.compareAndSet(false, true)) {
+            resumeFromSharedCache();
+        }
+
+        if (!checkApiLimit()) {
+            return;
+        }
+
+        fetchLines(budgetPlanner.claimDueLines(LocalDateTime.now()));
+    }
+
+    private int resumeFromSharedCache() {
+        int restored = 0;
+        metroCacheService.forgetWrittenContent();
+
+        for (MetroCacheService.LineMetadata cached :
+                metroCacheService.getLineMetadata(metroApiService.getEnabledLines()).values()) {
+            if (!metroCacheService.isFresh(cached)) {
+                continue;
+            }
+
+            budgetPlanner.recordSuccess(cached.getLineNumber(), cached.getLastUpdated());
+            restored++;
+        }
+
+        log.info("지하철 폴러 리더 시작: node={}, 공유 캐시에서 {}개 노선 복원",
+                pollerLeadership.getNodeId(), restored);
+        return restored;
     }
 
     private boolean isOperatingHours() {
@@ -65,7 +123,7 @@ public class MetroDataScheduler {
     }
 
     public void updateAllMetroPositions() {
-        if (!apiEnabled) {
+        if (!apiEnabled || !pollerLeadership.isLeader()) {
             return;
         }
 
@@ -76,128 +134,74 @@ public class MetroDataScheduler {
             return;
         }
 
-        if (!isUpdating.compareAndSet(false, true)) {
+        if (!checkApiLimit()) {
             return;
         }
 
-        try {
-            if (!checkApiLimit()) {
-                return;
-            }
-
-            if (metroApiService != null) {
-                metroApiService.getAllLinesRealtime()
-                        .subscribe(
-                                this::handleSuccessfulUpdate,
-                                this::handleFailedUpdate
-                        );
-            } else {
-                log.error("MetroApiService is null");
-            }
-
-        } catch (Exception e) {
-            log.error("Metro update failed: {}", e.getMessage());
-            handleFailedUpdate(e);
-        } finally {
-            isUpdating.set(false);
-        }
+        fetchLines(metroApiService.getEnabledLines());
     }
 
     public void updateLineData(String lineNumber) {
-        if (!apiEnabled || !checkApiLimit() || metroApiService == null) {
+        if (!apiEnabled || !pollerLeadership.isLeader() || !checkApiLimit() || metroApiService == null) {
             return;
         }
 
-        log.info("{}호선 위치 데이터 업데이트 시작", lineNumber);
-
-        metroApiService.getRealtimePositions(lineNumber)
-                .subscribe(
-                        allTrains -> {
-                            if (allTrains != null && stationFilter != null) {
-                                try {
-                                    List<TrainPosition> filteredTrains = stationFilter.filterLineStations(
-                                            allTrains, Integer.parseInt(lineNumber));
-
-                                    if (metroCacheService != null) {
-                                        metroCacheService.cacheLinePositions(lineNumber, filteredTrains);
-                                    }
-
-                                    log.info("{}호선 업데이트 완료: {}대 → {}대",
-                                            lineNumber, allTrains.size(), filteredTrains.size());
-                                } catch (Exception e) {
-                                    log.error("{}호선 데이터 처리 중 오류: {}", lineNumber, e.getMessage());
-                                }
-                            }
-                        },
-                        error -> {
-                            log.error("{}호선 업데이트 실패: {}", lineNumber, error.getMessage());
-                            handleLineUpdateFailure(lineNumber, error);
-                        }
-                );
+        fetchLines(List.of(lineNumber));
     }
 
-    private void handleSuccessfulUpdate(List<TrainPosition> allTrains) {
-        if (allTrains == null) {
-            log.warn("Update data is null");
+    private void fetchLines(List<String> lineNumbers) {
+        if (lineNumbers.isEmpty()) {
             return;
         }
 
-        try {
-            List<TrainPosition> filteredTrains = null;
-            if (stationFilter != null) {
-                filteredTrains = stationFilter.filterFrontendStations(allTrains);
-            } else {
-                filteredTrains = allTrains;
-                log.warn("StationFilter is null - proceeding without filtering");
-            }
-
-            if (metroCacheService != null && filteredTrains != null) {
-                metroCacheService.cacheAllPositions(filteredTrains);
-            } else {
-                log.error("Cache failed - metroCacheService: {}, filteredTrains: {}",
-                    metroCacheService != null, filteredTrains != null);
-            }
+        log.debug("{}호선 위치 데이터 업데이트 시작", String.join(",", lineNumbers));
+        inFlightLines.addAndGet(lineNumbers.size());
 
-            if (metroApiService != null && metroCacheService != null && filteredTrains != null) {
-                List<String> enabledLines = metroApiService.getEnabledLines();
-                if (enabledLines != null) {
-                    for (String lineNum : enabledLines) {
-                        List<TrainPosition> lineTrains = filteredTrains.stream()
-                                .filter(train -> train != null &&
-                                        lineNum.equals(String.valueOf(train.getLineNumber())))
-                                .toList();
-                        metroCacheService.cacheLinePositions(lineNum, lineTrains);
-                    }
-                }
-            }
+        Flux.fromIterable(lineNumbers)
+                .flatMap(lineNumber -> metroApiService.getRealtimeColumns(lineNumber)
+                        .map(trains -> Map.entry(lineNumber, trains))
+                        .onErrorResume(error -> {
+                            handleLineUpdateFailure(lineNumber, error);
+                            return Mono.empty();
+                        })
+                        .doFinally(signal -> inFlightLines.decrementAndGet()))
+                .bufferTimeout(lineNumbers.size(), LINE_BATCH_WINDOW)
+                .subscribe(this::handleLineUpdates);
+    }
 
-            lastSuccessfulUpdate = LocalDateTime.now();
-            consecutiveFailures = 0;
-            if (metroCacheService != null) {
-                metroCacheService.setLastUpdateTime(lastSuccessfulUpdate);
-            }
+    private void handleLineUpdates(List<Map.Entry<String, TrainPositionColumns>> results) {
+        List<String> lineNumbers = results.stream().map(Map.Entry::getKey).toList();
+        String lineLabel = String.join(",", lineNumbers);
 
-            String statsMessage = "정상 업데이트 완료";
-            if (stationFilter != null && filteredTrains != null) {
-                MetroStationFilter.FilteringStatistics stats =
-                        stationFilter.generateFilteringStats(allTrains, filteredTrains);
-                if (stats != null) {
-                    statsMessage = String.format("정상 업데이트 완료. %s", stats.getSummary());
-                }
+        try {
+            List<TrainPositionColumns> responses = new ArrayList<>();
+            Map<String, Long> freshnessSeconds = new HashMap<>();
+            for (Map.Entry<String, TrainPositionColumns> result : results) {
+                responses.add(result.getValue());
+                freshnessSeconds.put(result.getKey(), budgetPlanner.getFreshnessSeconds(result.getKey()));
             }
 
-            if (metroCacheService != null) {
-                metroCacheService.cacheHealthStatus("HEALTHY", statsMessage);
-            }
+            MetroStationFilter.LinePartition partition =
+                    stationFilter.partitionByLine(TrainPositionColumns.concat(responses), lineNumbers);
+            Map<String, MetroCacheService.PositionCacheData> linePositions =
+                    metroCacheService.cacheLinePositions(partition.getPositionsByLine(), freshnessSeconds);
+            positionSnapshotCache.replace(linePositions);
 
-            int filteredCount = filteredTrains != null ? filteredTrains.size() : 0;
-            int dailyCalls = metroApiService != null ? metroApiService.getDailyCallCount() : 0;
+            lastSuccessfulUpdate = LocalDateTime.now();
+            consecutiveFailures = 0;
+            metroCacheService.setLastUpdateTime(lastSuccessfulUpdate);
+            lineNumbers.forEach(lineNumber -> budgetPlanner.recordSuccess(lineNumber, lastSuccessfulUpdate));
 
-            log.info("Metro update success: {} → {} trains, API calls: {}/{}",
-                allTrains.size(), filteredCount, dailyCalls, dailyLimit);
+            MetroStationFilter.FilteringStatistics stats = partition.getStatistics();
+            metroCacheService.cacheHealthStatus("HEALTHY",
+                    String.format("%s호선 정상 업데이트 완료. %s", lineLabel, stats.getSummary()));
 
+            log.info("{}호선 업데이트 완료: {}대 → {}대 (노선별 {}), API calls: {}/{}",
+                    lineLabel, stats.getOriginalCount(), stats.getFilteredCount(), stats.getFilteredByLine(),
+                    metroApiService.getDailyCallCount(), dailyLimit);
         } catch (Exception e) {
-            log.error("Post-update processing failed: {}", e.getMessage(), e);
+            log.error("{}호선 데이터 처리 중 오류: {}", lineLabel, e.getMessage());
+            lineNumbers.forEach(budgetPlanner::release);
         }
     }
 
@@ -222,11 +226,15 @@ public class MetroDataScheduler {
         log.error("{}호선 업데이트 실패: {}", lineNumber,
                 error != null ? error.getMessage() : "Unknown error");
 
+        budgetPlanner.recordFailure(lineNumber, LocalDateTime.now());
+        handleFailedUpdate(error);
+
         if (metroCacheService != null) {
-            MetroCacheService.PositionCacheData existingData =
-                    metroCacheService.getLinePositions(lineNumber);
+            MetroCacheService.LineMetadata existingData = metroCacheService.getLineMetadata(lineNumber);
             if (existingData != null && metroCacheService.isCacheValid(existingData)) {
-                log.info("{}호선 기존 캐시 데이터 유지", lineNumber);
+                log.info("{}호선 기존 캐시 데이터 유지 (마지막 갱신: {}, {})", lineNumber,
+                        existingData.getLastUpdated(),
+                        metroCacheService.isFresh(existingData) ? "최신" : "지연");
             }
         }
     }
@@ -279,6 +287,10 @@ public class MetroDataScheduler {
 
     @Scheduled(cron = "0 0 * * * *")
     public void hourlyHealthCheck() {
+        if (!pollerLeadership.isLeader()) {
+            return;
+        }
+
         try {
             if (!isOperatingHours()) {
                 if (metroCacheService != null) {
@@ -298,9 +310,7 @@ public class MetroDataScheduler {
             boolean isDataFresh = lastUpdate != null &&
                     lastUpdate.isAfter(LocalDateTime.now().minusMinutes(10));
 
-            int frontendStationCount = stationFilter != null &&
-                    stationFilter.getFrontendStationIds() != null ?
-                    stationFilter.getFrontendStationIds().size() : 0;
+            int frontendStationCount = stationFilter != null ? stationFilter.getFrontendStationCount() : 0;
 
             String healthStatus;
             String healthDetails;
@@ -367,13 +377,14 @@ public class MetroDataScheduler {
                 .activeCaches(stats != null ? stats.getActiveLinesCaches() : 0)
                 .totalTrains(stats != null ? stats.getTotalTrains() : 0)
                 .hasAllPositionsCache(stats != null ? stats.isHasAllPositionsCache() : false)
-                .isUpdating(isUpdating.get())
+                .isUpdating(inFlightLines.get() > 0)
                 .apiEnabled(apiEnabled)
                 .filteringEnabled(stationFilter != null)
-                .frontendStationCount(stationFilter != null &&
-                        stationFilter.getFrontendStationIds() != null ?
-                        stationFilter.getFrontendStationIds().size() : 0)
+                .frontendStationCount(stationFilter != null ? stationFilter.getFrontendStationCount() : 0)
                 .frontendStationsByLine(frontendStationsByLine)
+                .plannedLineIntervals(budgetPlanner.getPlannedIntervals())
+                .pollerLeader(pollerLeadership.isLeader())
+                .pollerLeaderNode(pollerLeadership.getCurrentLeader())
                 .build();
     }
 
@@ -397,5 +408,8 @@ public class MetroDataScheduler {
         private boolean filteringEnabled;
         private int frontendStationCount;
         private Map<Integer, Integer> frontendStationsByLine;
+        private Map<String, Long> plannedLineIntervals;
+        private boolean pollerLeader;
+        private String pollerLeaderNode;
     }
 }
\ No newline at end of file
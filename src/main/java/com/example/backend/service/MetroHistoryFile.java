@@ -0,0 +1,214 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.TrainPositionColumns;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+final class MetroHistoryFile {
+
+    static final int FILE_MAGIC = 0x4D485354;
+    static final int RECORD_MAGIC = 0x4D524543;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_HEADER_SIZE = 36;
+
+    private static final int POS_MAGIC = 0;
+    private static final int POS_VERSION = 4;
+    private static final int POS_CAPACITY = 8;
+    private static final int POS_WRITE = 12;
+    private static final int POS_WRAPPED = 16;
+    private static final int POS_SEQUENCE = 24;
+
+    private MetroHistoryFile() {
+    }
+
+    static boolean hasValidHeader(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE) {
+            return false;
+        }
+
+        int writePosition = buffer.getInt(POS_WRITE);
+        return buffer.getInt(POS_MAGIC) == FILE_MAGIC
+                && buffer.getInt(POS_VERSION) == VERSION
+                && buffer.getInt(POS_CAPACITY) == buffer.capacity()
+                && writePosition >= HEADER_SIZE && writePosition <= buffer.capacity();
+    }
+
+    static void writeHeader(ByteBuffer buffer, int writePosition, boolean wrapped, long nextSequence) {
+        buffer.putInt(POS_MAGIC, FILE_MAGIC);
+        buffer.putInt(POS_VERSION, VERSION);
+        buffer.putInt(POS_CAPACITY, buffer.capacity());
+        buffer.putInt(POS_WRITE, writePosition);
+        buffer.putInt(POS_WRAPPED, wrapped ? 1 : 0);
+        buffer.putLong(POS_SEQUENCE, nextSequence);
+    }
+
+    static int writePosition(ByteBuffer buffer) {
+        return buffer.getInt(POS_WRITE);
+    }
+
+    static boolean wrapped(ByteBuffer buffer) {
+        return buffer.getInt(POS_WRAPPED) != 0;
+    }
+
+    static long nextSequence(ByteBuffer buffer) {
+        return buffer.getLong(POS_SEQUENCE);
+    }
+
+    static int recordSize(int payloadLength) {
+        return RECORD_HEADER_SIZE + payloadLength;
+    }
+
+    static void writeRecord(ByteBuffer buffer, int offset, long sequence, int lineNumber, long capturedAt,
+                            int rawLength, byte[] payload) {
+        buffer.putInt(offset + 4, payload.length);
+        buffer.putInt(offset + 8, rawLength);
+        buffer.putInt(offset + 12, lineNumber);
+        buffer.putLong(offset + 16, sequence);
+        buffer.putLong(offset + 24, capturedAt);
+        buffer.putInt(offset + 32, crc(payload));
+        buffer.put(offset + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(offset, RECORD_MAGIC);
+    }
+
+    static void writeWrapMarker(ByteBuffer buffer, int offset) {
+        if (offset + 4 <= buffer.capacity()) {
+            buffer.putInt(offset, 0);
+        }
+    }
+
+    static Entry readEntry(ByteBuffer buffer, int offset) {
+        StoredRecord record = readRecord(buffer, offset);
+        return record != null ? record.entry() : null;
+    }
+
+    static TrainPositionColumns decode(ByteBuffer buffer, Entry entry) {
+        StoredRecord record = readRecord(buffer, entry.getOffset());
+        if (record == null || record.entry().getSequence() != entry.getSequence()) {
+            return null;
+        }
+
+        Entry current = record.entry();
+        return MetroPositionCodec.decode(decompress(record.payload(), current.getRawLength()), current.getCapturedAt());
+    }
+
+    private static StoredRecord readRecord(ByteBuffer buffer, int offset) {
+        if (offset < HEADER_SIZE || offset + RECORD_HEADER_SIZE > buffer.capacity()
+                || buffer.getInt(offset) != RECORD_MAGIC) {
+            return null;
+        }
+
+        int length = buffer.getInt(offset + 4);
+        int rawLength = buffer.getInt(offset + 8);
+        if (length <= 0 || rawLength <= 0 || offset + recordSize(length) > buffer.capacity()) {
+            return null;
+        }
+
+        Entry entry = new Entry(buffer.getLong(offset + 16), buffer.getInt(offset + 12), buffer.getLong(offset + 24),
+                offset, length, rawLength);
+        byte[] payload = new byte[length];
+        buffer.get(offset + RECORD_HEADER_SIZE, payload);
+        if (crc(payload) != buffer.getInt(offset + 32)) {
+            return null;
+        }
+
+        return new StoredRecord(entry, payload);
+    }
+
+    static void scan(ByteBuffer buffer, Consumer<Entry> consumer) {
+        int writePosition = writePosition(buffer);
+
+        if (wrapped(buffer)) {
+            int offset = writePosition;
+            Entry entry = null;
+            while (offset + RECORD_HEADER_SIZE <= buffer.capacity()
+                    && (entry = readEntry(buffer, offset)) == null) {
+                offset++;
+            }
+            while (entry != null) {
+                consumer.accept(entry);
+                entry = readEntry(buffer, entry.getEnd());
+            }
+        }
+
+        int offset = HEADER_SIZE;
+        while (offset < writePosition) {
+            Entry entry = readEntry(buffer, offset);
+            if (entry == null) {
+                break;
+            }
+            consumer.accept(entry);
+            offset = entry.getEnd();
+        }
+    }
+
+    static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] decompress(byte[] payload, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, read, rawLength - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != rawLength) {
+                throw new IllegalArgumentException("이력 레코드 길이 불일치");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("이력 레코드 압축 해제 실패: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    @lombok.Value
+    static class Entry {
+        long sequence;
+        int lineNumber;
+        long capturedAt;
+        int offset;
+        int length;
+        int rawLength;
+
+        int getEnd() {
+            return offset + recordSize(length);
+        }
+    }
+
+    private record StoredRecord(Entry entry, byte[] payload) {
+    }
+}
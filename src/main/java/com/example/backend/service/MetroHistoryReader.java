@@ -0,0 +1,103 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.MetroHistorySnapshot;
+import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class MetroHistoryReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private MetroHistoryReader(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    public static MetroHistoryReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!MetroHistoryFile.hasValidHeader(buffer)) {
+                throw new IOException("지하철 위치 이력 파일 형식이 아닙니다: " + file);
+            }
+            return new MetroHistoryReader(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void forEach(Integer lineNumber, LocalDateTime from, LocalDateTime to,
+                        Consumer<MetroHistorySnapshot> consumer) {
+        long fromMillis = from != null ? MetroHistoryStore.toMillis(from) : Long.MIN_VALUE;
+        long toMillis = to != null ? MetroHistoryStore.toMillis(to) : Long.MAX_VALUE;
+
+        MetroHistoryFile.scan(buffer, entry -> {
+            if (lineNumber != null && entry.getLineNumber() != lineNumber) {
+                return;
+            }
+            if (entry.getCapturedAt() < fromMillis || entry.getCapturedAt() > toMillis) {
+                return;
+            }
+
+            TrainPositionColumns columns = MetroHistoryFile.decode(buffer, entry);
+            if (columns != null) {
+                consumer.accept(MetroHistoryStore.toSnapshot(entry, columns));
+            }
+        });
+    }
+
+    public List<MetroHistorySnapshot> read(Integer lineNumber, LocalDateTime from, LocalDateTime to) {
+        List<MetroHistorySnapshot> snapshots = new ArrayList<>();
+        forEach(lineNumber, from, to, snapshots::add);
+        return snapshots;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: MetroHistoryReader <history-file> [line] [from] [to]");
+            System.exit(1);
+        }
+
+        Integer lineNumber = args.length > 1 ? Integer.valueOf(args[1]) : null;
+        LocalDateTime from = args.length > 2 ? LocalDateTime.parse(args[2]) : null;
+        LocalDateTime to = args.length > 3 ? LocalDateTime.parse(args[3]) : null;
+
+        PrintStream out = new PrintStream(System.out, false, StandardCharsets.UTF_8);
+        out.println("capturedAt\tline\tsequence\ttrainId\tstationId\tstationName\tdirection\tlastUpdated");
+        try (MetroHistoryReader reader = open(Path.of(args[0]))) {
+            reader.forEach(lineNumber, from, to, snapshot -> {
+                for (TrainPosition position : snapshot.getPositions()) {
+                    out.println(String.join("\t",
+                            snapshot.getCapturedAt().toString(),
+                            String.valueOf(snapshot.getLineNumber()),
+                            String.valueOf(snapshot.getSequence()),
+                            position.getTrainId(),
+                            String.valueOf(position.getStationId()),
+                            position.getStationName(),
+                            position.getDirection(),
+                            String.valueOf(position.getLastUpdated())));
+                }
+            });
+        }
+        out.flush();
+    }
+}
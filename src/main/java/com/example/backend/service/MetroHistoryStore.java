@@ -0,0 +1,243 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.MetroHistorySnapshot;
+import com.example.backend.dto.metro.TrainPositionColumns;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class MetroHistoryStore {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MIN_CAPACITY = 1 << 20;
+
+    @Value("${seoul.metro.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${seoul.metro.history.path:./data/metro-history.bin}")
+    private String path;
+
+    @Value("${seoul.metro.history.capacity:67108864}")
+    private long capacity;
+
+    @Value("${seoul.metro.history.max-snapshots:500}")
+    private int maxSnapshots;
+
+    private FileChannel channel;
+    private volatile MappedByteBuffer buffer;
+
+    private final ArrayDeque<MetroHistoryFile.Entry> entries = new ArrayDeque<>();
+    private final Map<Integer, NavigableMap<Long, MetroHistoryFile.Entry>> timeIndex = new ConcurrentHashMap<>();
+    private final AtomicLong appendedCount = new AtomicLong(0);
+    private final AtomicLong evictedCount = new AtomicLong(0);
+    private int writePosition;
+    private boolean wrapped;
+    private long nextSequence;
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            log.info("지하철 위치 이력 저장 비활성화");
+            return;
+        }
+
+        try {
+            Path file = Path.of(path);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            int size = (int) Math.max(MIN_CAPACITY, Math.min(capacity, Integer.MAX_VALUE));
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            if (channel.size() != 0 && channel.size() != size) {
+                log.warn("지하철 위치 이력 파일 크기 변경으로 기존 이력 폐기: path={}, 기존={}bytes, 설정={}bytes",
+                        file.toAbsolutePath(), channel.size(), size);
+                channel.truncate(0);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            synchronized (this) {
+                if (MetroHistoryFile.hasValidHeader(mapped)) {
+                    writePosition = MetroHistoryFile.writePosition(mapped);
+                    wrapped = MetroHistoryFile.wrapped(mapped);
+                    nextSequence = MetroHistoryFile.nextSequence(mapped);
+                    MetroHistoryFile.scan(mapped, this::index);
+                } else {
+                    writePosition = MetroHistoryFile.HEADER_SIZE;
+                    wrapped = false;
+                    nextSequence = 0L;
+                    MetroHistoryFile.writeHeader(mapped, writePosition, false, nextSequence);
+                }
+                buffer = mapped;
+            }
+
+            log.info("지하철 위치 이력 저장소 열기: path={}, capacity={}MB, 기존 스냅샷 {}건",
+                    file.toAbsolutePath(), size >> 20, entries.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("지하철 위치 이력 저장소 열기 실패 - 이력 저장 비활성화: {}", e.getMessage());
+            closeChannel();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        MappedByteBuffer mapped = buffer;
+        if (mapped != null) {
+            synchronized (this) {
+                mapped.force();
+                buffer = null;
+            }
+        }
+        closeChannel();
+    }
+
+    public void append(int lineNumber, TrainPositionColumns columns, long capturedAt) {
+        byte[] raw = MetroPositionCodec.encode(columns, capturedAt);
+        byte[] payload = MetroHistoryFile.compress(raw);
+        int size = MetroHistoryFile.recordSize(payload.length);
+
+        synchronized (this) {
+            MappedByteBuffer mapped = buffer;
+            if (mapped == null) {
+                return;
+            }
+            if (size > mapped.capacity() - MetroHistoryFile.HEADER_SIZE) {
+                log.warn("{}호선 위치 이력 레코드가 저장소보다 큼: {}bytes", lineNumber, size);
+                return;
+            }
+
+            if (writePosition + size > mapped.capacity()) {
+                evict(writePosition, mapped.capacity());
+                MetroHistoryFile.writeWrapMarker(mapped, writePosition);
+                writePosition = MetroHistoryFile.HEADER_SIZE;
+                wrapped = true;
+            }
+            evict(writePosition, writePosition + size);
+
+            long sequence = nextSequence++;
+            MetroHistoryFile.writeRecord(mapped, writePosition, sequence, lineNumber, capturedAt, raw.length, payload);
+            index(new MetroHistoryFile.Entry(sequence, lineNumber, capturedAt, writePosition, payload.length,
+                    raw.length));
+
+            writePosition += size;
+            MetroHistoryFile.writeHeader(mapped, writePosition, wrapped, nextSequence);
+            appendedCount.incrementAndGet();
+        }
+    }
+
+    public List<MetroHistorySnapshot> query(int lineNumber, LocalDateTime from, LocalDateTime to, int limit) {
+        MappedByteBuffer mapped = buffer;
+        NavigableMap<Long, MetroHistoryFile.Entry> lineIndex = timeIndex.get(lineNumber);
+        if (mapped == null || lineIndex == null || from.isAfter(to)) {
+            return List.of();
+        }
+
+        int max = Math.max(1, Math.min(limit, maxSnapshots));
+        List<MetroHistorySnapshot> snapshots = new ArrayList<>();
+        for (MetroHistoryFile.Entry entry : lineIndex.subMap(toMillis(from), true, toMillis(to), true).values()) {
+            if (snapshots.size() >= max) {
+                break;
+            }
+
+            TrainPositionColumns columns = MetroHistoryFile.decode(mapped, entry);
+            if (columns != null) {
+                snapshots.add(toSnapshot(entry, columns));
+            }
+        }
+        return snapshots;
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("enabled", buffer != null);
+        statistics.put("path", path);
+        statistics.put("snapshots", entries.size());
+        statistics.put("appended", appendedCount.get());
+        statistics.put("evicted", evictedCount.get());
+        statistics.put("wrapped", wrapped);
+        statistics.put("oldest", entries.isEmpty() ? null : toDateTime(entries.peekFirst().getCapturedAt()));
+        statistics.put("newest", entries.isEmpty() ? null : toDateTime(entries.peekLast().getCapturedAt()));
+        return statistics;
+    }
+
+    static MetroHistorySnapshot toSnapshot(MetroHistoryFile.Entry entry, TrainPositionColumns columns) {
+        return MetroHistorySnapshot.builder()
+                .sequence(entry.getSequence())
+                .lineNumber(entry.getLineNumber())
+                .capturedAt(toDateTime(entry.getCapturedAt()))
+                .trainCount(columns.size())
+                .positions(columns.toPositions())
+                .build();
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    private void index(MetroHistoryFile.Entry entry) {
+        entries.addLast(entry);
+        timeIndex.computeIfAbsent(entry.getLineNumber(), key -> new ConcurrentSkipListMap<>())
+                .put(entry.getCapturedAt(), entry);
+    }
+
+    private void evict(int from, int to) {
+        while (!entries.isEmpty()) {
+            MetroHistoryFile.Entry oldest = entries.peekFirst();
+            if (oldest.getOffset() >= to || oldest.getEnd() <= from) {
+                return;
+            }
+
+            entries.pollFirst();
+            NavigableMap<Long, MetroHistoryFile.Entry> lineIndex = timeIndex.get(oldest.getLineNumber());
+            if (lineIndex != null) {
+                lineIndex.remove(oldest.getCapturedAt(), oldest);
+            }
+            evictedCount.incrementAndGet();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("지하철 위치 이력 파일 닫기 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetroPollerLeadership {
+
+    private static final String LEADER_KEY = "metro:poller:leader";
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${seoul.metro.leader.lease:60000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean leader = false;
+    private volatile LocalDateTime leaseRenewedAt = null;
+
+    public boolean isLeader() {
+        return leader && leaseRenewedAt != null
+                && leaseRenewedAt.plus(Duration.ofMillis(leaseMs)).isAfter(LocalDateTime.now());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getCurrentLeader() {
+        try {
+            return redisTemplate.opsForValue().get(LEADER_KEY);
+        } catch (Exception e) {
+            log.warn("지하철 폴러 리더 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seoul.metro.leader.renew-interval:15000}")
+    public void renewOrAcquire() {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            boolean held = leader && Long.valueOf(1L).equals(redisTemplate.execute(
+                    RENEW_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(leaseMs)));
+
+            if (!held) {
+                held = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(LEADER_KEY, nodeId, Duration.ofMillis(leaseMs)));
+            }
+
+            if (held != leader) {
+                log.info("지하철 폴러 리더십 {}: node={}", held ? "획득" : "상실", nodeId);
+            }
+
+            leader = held;
+            leaseRenewedAt = held ? now : null;
+        } catch (Exception e) {
+            if (leader) {
+                log.warn("지하철 폴러 리더 임대 갱신 실패 - 리더십 포기: {}", e.getMessage());
+            }
+            leader = false;
+            leaseRenewedAt = null;
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!leader) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId);
+            log.info("지하철 폴러 리더십 반납: node={}", nodeId);
+        } catch (Exception e) {
+            log.warn("지하철 폴러 리더십 반납 실패: {}", e.getMessage());
+        } finally {
+            leader = false;
+            leaseRenewedAt = null;
+        }
+    }
+}
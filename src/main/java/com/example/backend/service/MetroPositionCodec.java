@@ -0,0 +1,140 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.TrainPositionColumns;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class MetroPositionCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_REALTIME = 1;
+
+    private MetroPositionCodec() {
+    }
+
+    static byte[] encode(TrainPositionColumns trains, long baseMillis) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + trains.size() * 16);
+
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeByte(trains.isRealtime() ? FLAG_REALTIME : 0);
+            out.writeUTF(trains.getDataSource() != null ? trains.getDataSource() : "");
+
+            writeVarLong(out, trains.stationCount());
+            for (int station = 0; station < trains.stationCount(); station++) {
+                writeVarLong(out, zigZag(trains.stationId(station)));
+                out.writeUTF(trains.stationName(station));
+            }
+
+            writeVarLong(out, trains.size());
+            for (int row = 0; row < trains.size(); row++) {
+                out.writeUTF(trains.trainId(row));
+                writeVarLong(out, trains.line(row));
+                writeVarLong(out, trains.stationIndex(row));
+                out.writeByte(trains.direction(row));
+                writeVarLong(out, zigZag(baseMillis - trains.updatedAt(row)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    static TrainPositionColumns decode(byte[] body, long baseMillis) {
+        if (body == null || body.length == 0 || body[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 위치 캐시 형식");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            in.readByte();
+            boolean realtime = (in.readByte() & FLAG_REALTIME) != 0;
+            String dataSource = in.readUTF();
+
+            int stationCount = (int) readVarLong(in);
+            long[] stationIds = new long[stationCount];
+            String[] stationNames = new String[stationCount];
+            for (int station = 0; station < stationCount; station++) {
+                stationIds[station] = unZigZag(readVarLong(in));
+                stationNames[station] = in.readUTF();
+            }
+
+            int size = (int) readVarLong(in);
+            TrainPositionColumns.Builder trains = TrainPositionColumns.builder(size,
+                    dataSource.isEmpty() ? null : dataSource, realtime);
+            for (int row = 0; row < size; row++) {
+                String trainId = in.readUTF();
+                int line = (int) readVarLong(in);
+                int station = (int) readVarLong(in);
+                byte direction = in.readByte();
+                long age = unZigZag(readVarLong(in));
+                trains.add(trainId, line, stationIds[station], stationNames[station], direction, baseMillis - age);
+            }
+            return trains.build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("위치 캐시 디코딩 실패: " + e.getMessage(), e);
+        }
+    }
+
+    static String contentHash(TrainPositionColumns trains) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + trains.size() * 12);
+
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(trains.isRealtime() ? FLAG_REALTIME : 0);
+            out.writeUTF(trains.getDataSource() != null ? trains.getDataSource() : "");
+
+            writeVarLong(out, trains.size());
+            for (int row = 0; row < trains.size(); row++) {
+                out.writeUTF(trains.trainId(row));
+                writeVarLong(out, trains.line(row));
+                writeVarLong(out, zigZag(trains.stationId(trains.stationIndex(row))));
+                out.writeUTF(trains.stationName(trains.stationIndex(row)));
+                out.writeByte(trains.direction(row));
+            }
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.toByteArray());
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint too long");
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetroPositionEstimator {
+
+    private static final double LEARNING_RATE = 0.3;
+    private static final int MAX_LEARNING_HOPS = 8;
+    private static final String ESTIMATED_SOURCE = "ESTIMATED";
+
+    private final StationRegistry stationRegistry;
+
+    @Value("${seoul.metro.estimate.default-hop-seconds:120}")
+    private double defaultHopSeconds;
+
+    @Value("${seoul.metro.estimate.max-extrapolation:600}")
+    private long maxExtrapolationSeconds;
+
+    private final Map<Integer, LineModel> models = new ConcurrentHashMap<>();
+
+    public void observe(TrainPositionColumns trains) {
+        Map<Integer, List<Integer>> rowsByLine = new HashMap<>();
+        for (int row = 0; row < trains.size(); row++) {
+            rowsByLine.computeIfAbsent(trains.line(row), line -> new ArrayList<>()).add(row);
+        }
+
+        rowsByLine.forEach((line, rows) -> {
+            LineModel model = modelOf(line);
+            if (model != null) {
+                model.observe(trains, rows);
+            }
+        });
+    }
+
+    public List<TrainPosition> estimate(TrainPositionColumns trains, long nowMillis) {
+        List<TrainPosition> positions = new ArrayList<>(trains.size());
+        for (int row = 0; row < trains.size(); row++) {
+            TrainPosition observed = trains.toPosition(row);
+            LineModel model = modelOf(trains.line(row));
+            positions.add(model != null ? model.estimate(trains, row, observed, nowMillis) : observed);
+        }
+        return positions;
+    }
+
+    public Map<String, Object> getModelSummary() {
+        Map<String, Object> summary = new HashMap<>();
+        models.forEach((line, model) -> summary.put(String.valueOf(line), model.summary()));
+        return summary;
+    }
+
+    private LineModel modelOf(int line) {
+        LineModel model = models.get(line);
+        if (model != null) {
+            return model;
+        }
+
+        List<StationRegistry.StationEntry> stations = stationRegistry.getFrontendLineStations(line);
+        if (stations.size() < 2) {
+            return null;
+        }
+        return models.computeIfAbsent(line, key -> new LineModel(stations));
+    }
+
+    private final class LineModel {
+
+        private final long[] stationIds;
+        private final String[] stationNames;
+        private final double[][] segmentSeconds;
+        private final int[] directionVotes = new int[3];
+        private final Map<String, TrainTrack> tracks = new HashMap<>();
+        private long samples = 0L;
+
+        private LineModel(List<StationRegistry.StationEntry> stations) {
+            this.stationIds = new long[stations.size()];
+            this.stationNames = new String[stations.size()];
+            for (int i = 0; i < stations.size(); i++) {
+                stationIds[i] = stations.get(i).getApiStationId();
+                stationNames[i] = stations.get(i).getName();
+            }
+            this.segmentSeconds = new double[2][stations.size() - 1];
+            Arrays.fill(segmentSeconds[0], Double.NaN);
+            Arrays.fill(segmentSeconds[1], Double.NaN);
+        }
+
+        private synchronized void observe(TrainPositionColumns trains, List<Integer> rows) {
+            Map<String, TrainTrack> next = new HashMap<>();
+
+            for (int row : rows) {
+                int index = indexOf(trains.stationId(trains.stationIndex(row)));
+                byte direction = trains.direction(row);
+                long seenAt = trains.updatedAt(row);
+                if (index < 0) {
+                    continue;
+                }
+
+                TrainTrack previous = tracks.get(trains.trainId(row));
+                if (previous != null && previous.direction == direction && seenAt > previous.seenAt) {
+                    learn(previous, index, direction, seenAt);
+                }
+
+                TrainTrack track = previous != null && previous.index == index && previous.direction == direction ?
+                        previous : new TrainTrack(index, direction, seenAt);
+                next.put(trains.trainId(row), track);
+            }
+
+            tracks.clear();
+            tracks.putAll(next);
+        }
+
+        private void learn(TrainTrack previous, int index, byte direction, long seenAt) {
+            int hops = index - previous.index;
+            if (hops == 0 || Math.abs(hops) > MAX_LEARNING_HOPS || direction == TrainPositionColumns.DIRECTION_UNKNOWN) {
+                return;
+            }
+
+            directionVotes[direction] += Integer.signum(hops);
+
+            int traversal = hops > 0 ? 0 : 1;
+            double perHop = (seenAt - previous.seenAt) / 1000.0 / Math.abs(hops);
+            int from = Math.min(previous.index, index);
+            int to = Math.max(previous.index, index);
+            for (int segment = from; segment < to; segment++) {
+                double current = segmentSeconds[traversal][segment];
+                segmentSeconds[traversal][segment] = Double.isNaN(current) ?
+                        perHop : current + LEARNING_RATE * (perHop - current);
+            }
+            samples++;
+        }
+
+        private synchronized TrainPosition estimate(TrainPositionColumns trains, int row,
+                                                    TrainPosition observed, long nowMillis) {
+            int index = indexOf(trains.stationId(trains.stationIndex(row)));
+            byte direction = trains.direction(row);
+            if (index < 0 || direction == TrainPositionColumns.DIRECTION_UNKNOWN || directionVotes[direction] == 0) {
+                return observed;
+            }
+
+            int step = directionVotes[direction] > 0 ? 1 : -1;
+            int traversal = step > 0 ? 0 : 1;
+            double remaining = Math.min(nowMillis - trains.updatedAt(row), maxExtrapolationSeconds * 1000L) / 1000.0;
+            if (remaining <= 0) {
+                return observed;
+            }
+
+            int current = index;
+            double progress = 0.0;
+            while (true) {
+                int nextIndex = current + step;
+                if (nextIndex < 0 || nextIndex >= stationIds.length) {
+                    break;
+                }
+
+                double hopSeconds = hopSeconds(traversal, Math.min(current, nextIndex));
+                if (remaining < hopSeconds) {
+                    progress = remaining / hopSeconds;
+                    break;
+                }
+                remaining -= hopSeconds;
+                current = nextIndex;
+            }
+
+            int nextIndex = current + step;
+            boolean hasNext = nextIndex >= 0 && nextIndex < stationIds.length;
+
+            observed.setStationId(Long.toString(stationIds[current]));
+            observed.setStationName(stationNames[current]);
+            observed.setFrontendStationId(stationNames[current]);
+            observed.setNextStationId(hasNext ? Long.toString(stationIds[nextIndex]) : null);
+            observed.setSegmentProgress(hasNext ? progress : 0.0);
+            observed.setEstimated(true);
+            observed.setDataSource(ESTIMATED_SOURCE);
+            observed.setRealtime(false);
+            return observed;
+        }
+
+        private double hopSeconds(int traversal, int segment) {
+            double learned = segmentSeconds[traversal][segment];
+            if (!Double.isNaN(learned)) {
+                return learned;
+            }
+
+            double sum = 0.0;
+            int count = 0;
+            for (double seconds : segmentSeconds[traversal]) {
+                if (!Double.isNaN(seconds)) {
+                    sum += seconds;
+                    count++;
+                }
+            }
+            return count > 0 ? sum / count : defaultHopSeconds;
+        }
+
+        private int indexOf(long stationId) {
+            int index = Arrays.binarySearch(stationIds, stationId);
+            return index >= 0 ? index : -1;
+        }
+
+        private synchronized Map<String, Object> summary() {
+            long learnedSegments = Arrays.stream(segmentSeconds)
+                    .flatMapToDouble(Arrays::stream)
+                    .filter(seconds -> !Double.isNaN(seconds))
+                    .count();
+
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("stations", stationIds.length);
+            summary.put("trackedTrains", tracks.size());
+            summary.put("samples", samples);
+            summary.put("learnedSegments", learnedSegments);
+            summary.put("upDirectionSign", Integer.signum(directionVotes[TrainPositionColumns.DIRECTION_UP]));
+            summary.put("downDirectionSign", Integer.signum(directionVotes[TrainPositionColumns.DIRECTION_DOWN]));
+            return summary;
+        }
+    }
+
+    private static final class TrainTrack {
+        private final int index;
+        private final byte direction;
+        private final long seenAt;
+
+        private TrainTrack(int index, byte direction, long seenAt) {
+            this.index = index;
+            this.direction = direction;
+            this.seenAt = seenAt;
+        }
+    }
+}
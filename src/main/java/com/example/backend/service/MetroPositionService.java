@@ -2,7 +2,6 @@ package com.example.backend.service;
 
 import com.example.backend.dto.metro.TrainPosition;
 import com.example.backend.dto.metro.MetroPositionResponse;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,6 +25,7 @@ public class MetroPositionService {
     private String enabledLinesConfig;
 
     private final MetroStationFilter stationFilter;
+    private final StationRegistry stationRegistry;
 
     private List<Integer> enabledLines;
 
@@ -36,57 +36,6 @@ public class MetroPositionService {
             4, 6
     );
 
-    private static final Map<Integer, List<StationInfo>> LINE_STATIONS = Map.of(
-            1, Arrays.asList(
-                    new StationInfo("도봉산", "1001000117"),
-                    new StationInfo("창동", "1001000116"),
-                    new StationInfo("종로5가", "1001000129"),
-                    new StationInfo("종각", "1001000131"),
-                    new StationInfo("시청", "1001000132"),
-                    new StationInfo("서울역", "1001000133"),
-                    new StationInfo("용산", "1001000135"),
-                    new StationInfo("영등포", "1001000139"),
-                    new StationInfo("구로", "1001000141"),
-                    new StationInfo("온수", "1001000145")
-            ),
-            2, Arrays.asList(
-                    new StationInfo("을지로입구", "1002000202"),
-                    new StationInfo("동대문역사문화공원", "1002000205"),
-                    new StationInfo("건대입구", "1002000212"),
-                    new StationInfo("잠실", "1002000216"),
-                    new StationInfo("삼성", "1002000219"),
-                    new StationInfo("강남", "1002000222"),
-                    new StationInfo("사당", "1002000226"),
-                    new StationInfo("신림", "1002000230"),
-                    new StationInfo("구로디지털단지", "1002000232"),
-                    new StationInfo("홍대입구", "1002000239"),
-                    new StationInfo("신촌", "1002000240")
-            ),
-            3, Arrays.asList(
-                    new StationInfo("구파발", "1003000301"),
-                    new StationInfo("불광", "1003000303"),
-                    new StationInfo("독립문", "1003000307"),
-                    new StationInfo("종로3가", "1003000310"),
-                    new StationInfo("충무로", "1003000328"),
-                    new StationInfo("압구정", "1003000323"),
-                    new StationInfo("교대", "1003000319"),
-                    new StationInfo("양재", "1003000344"),
-                    new StationInfo("수서", "1003000351"),
-                    new StationInfo("오금", "1003000352")
-            ),
-            4, Arrays.asList(
-                    new StationInfo("당고개", "1004000401"),
-                    new StationInfo("상계", "1004000402"),
-                    new StationInfo("창동", "1004000412"),
-                    new StationInfo("한성대입구", "1004000419"),
-                    new StationInfo("동대문", "1004000421"),
-                    new StationInfo("충무로", "1004000423"),
-                    new StationInfo("명동", "1004000424"),
-                    new StationInfo("서울역", "1004000426"),
-                    new StationInfo("사당", "1004000433")
-            )
-    );
-
     @PostConstruct
     public void init() {
         if (enabledLinesConfig != null) {
@@ -100,10 +49,7 @@ public class MetroPositionService {
             this.enabledLines = Arrays.asList(1, 2, 3, 4);
         }
 
-        int stationCount = 0;
-        if (stationFilter != null && stationFilter.getFrontendStationIds() != null) {
-            stationCount = stationFilter.getFrontendStationIds().size();
-        }
+        int stationCount = stationFilter != null ? stationFilter.getFrontendStationCount() : 0;
 
         log.info("지하철 위치 서비스 초기화 완료: 활성 노선 {}", enabledLines);
         log.info("프론트엔드 역 필터링 활성화: {}개 역", stationCount);
@@ -209,8 +155,8 @@ public class MetroPositionService {
             return new ArrayList<>();
         }
 
-        List<StationInfo> stations = LINE_STATIONS.get(lineNumber);
-        if (stations == null || stations.isEmpty()) {
+        List<StationRegistry.StationEntry> stations = stationRegistry.getFrontendLineStations(lineNumber);
+        if (stations.isEmpty()) {
             log.warn("{}호선 역 정보 없음", lineNumber);
             return new ArrayList<>();
         }
@@ -222,7 +168,7 @@ public class MetroPositionService {
         Random random = new Random();
 
         for (int i = 0; i < trainCount; i++) {
-            StationInfo station = getDistributedStation(stations, i, trainCount);
+            StationRegistry.StationEntry station = getDistributedStation(stations, i, trainCount);
             if (station == null) continue;
 
             String direction = getRealisticDirection(random, lineNumber);
@@ -230,7 +176,7 @@ public class MetroPositionService {
             TrainPosition position = TrainPosition.builder()
                     .trainId(String.format("%d%04d", lineNumber, 1000 + i))
                     .lineNumber(lineNumber)
-                    .stationId(station.getId())
+                    .stationId(station.getApiStationIdText())
                     .stationName(station.getName())
                     .frontendStationId(station.getName())
                     .direction(direction)
@@ -267,7 +213,8 @@ public class MetroPositionService {
         return baseCount;
     }
 
-    private StationInfo getDistributedStation(List<StationInfo> stations, int trainIndex, int totalTrains) {
+    private StationRegistry.StationEntry getDistributedStation(List<StationRegistry.StationEntry> stations,
+                                                               int trainIndex, int totalTrains) {
         if (stations == null || stations.isEmpty()) {
             return null;
         }
@@ -334,10 +281,9 @@ public class MetroPositionService {
         Map<String, Object> filterInfo = new HashMap<>();
 
         if (stationFilter != null) {
-            Set<String> stationIds = stationFilter.getFrontendStationIds();
             Map<Integer, Integer> stationsByLine = stationFilter.getFrontendStationCountByLine();
 
-            filterInfo.put("totalFrontendStations", stationIds != null ? stationIds.size() : 0);
+            filterInfo.put("totalFrontendStations", stationFilter.getFrontendStationCount());
             filterInfo.put("stationsByLine", stationsByLine != null ? stationsByLine : new HashMap<>());
         } else {
             filterInfo.put("totalFrontendStations", 0);
@@ -349,15 +295,4 @@ public class MetroPositionService {
 
         return filterInfo;
     }
-
-    @Getter
-    private static class StationInfo {
-        private final String name;
-        private final String id;
-
-        public StationInfo(String name, String id) {
-            this.name = name != null ? name : "미정";
-            this.id = id != null ? id : "unknown";
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.auth.ApiResponse;
+import com.example.backend.dto.metro.MetroPositionResponse;
+import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetroPositionSnapshotCache {
+
+    private static final String INVALIDATION_CHANNEL = "metro:positions:invalidate";
+    private static final String ALL_LINES = MetroPositionStreamService.ALL_LINES;
+    private static final Duration MISS_BACKOFF = Duration.ofSeconds(5);
+
+    private final MetroCacheService metroCacheService;
+    private final MetroApiService metroApiService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MetroPositionStreamService positionStreamService;
+    private final MetroPositionEstimator positionEstimator;
+    private final MetroHistoryStore historyStore;
+
+    @Value("${seoul.metro.estimate.render-interval:5000}")
+    private long estimateRenderIntervalMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LocalDateTime> missUntil = new ConcurrentHashMap<>();
+    private final Map<String, EstimatedRender> estimatedRenders = new ConcurrentHashMap<>();
+    private volatile Map<String, RenderedPositions> snapshot = Map.of();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public RenderedPositions getAllPositions() {
+        refresh(metroApiService.getEnabledLines());
+        return snapshot.get(ALL_LINES);
+    }
+
+    public RenderedPositions getLinePositions(String lineNumber) {
+        refresh(List.of(lineNumber));
+        return snapshot.get(lineNumber);
+    }
+
+    public RenderedPositions getEstimatedAllPositions() {
+        RenderedPositions observed = getAllPositions();
+        return observed != null ? estimated(ALL_LINES, observed) : null;
+    }
+
+    public RenderedPositions getEstimatedLinePositions(String lineNumber) {
+        RenderedPositions observed = getLinePositions(lineNumber);
+        return observed != null ? estimated(lineNumber, observed) : null;
+    }
+
+    public void replace(Map<String, MetroCacheService.PositionCacheData> linePositions) {
+        linePositions.keySet().forEach(missUntil::remove);
+        apply(linePositions, Set.of());
+        publishInvalidation(linePositions.keySet());
+        recordHistory(linePositions);
+    }
+
+    private RenderedPositions estimated(String key, RenderedPositions observed) {
+        long now = System.currentTimeMillis();
+        EstimatedRender cached = estimatedRenders.get(key);
+        if (cached != null && cached.observed == observed && now - cached.renderedAt < estimateRenderIntervalMs) {
+            return cached.rendered;
+        }
+
+        MetroCacheService.PositionCacheData cacheData = observed.getCacheData();
+        List<TrainPosition> positions = positionEstimator.estimate(columnsOf(cacheData), now);
+        RenderedPositions rendered = render(key, cacheData, positions, true);
+        if (rendered == null) {
+            return observed;
+        }
+
+        estimatedRenders.put(key, new EstimatedRender(observed, rendered, now));
+        return rendered;
+    }
+
+    private void refresh(List<String> lineNumbers) {
+        Map<String, MetroCacheService.PositionCacheData> updates = new HashMap<>();
+        Set<String> expired = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (String lineNumber : lineNumbers) {
+            RenderedPositions cached = snapshot.get(lineNumber);
+
+            if (cached != null && metroCacheService.isCacheValid(cached.getCacheData())) {
+                if (cached.isStale() == metroCacheService.isFresh(cached.getCacheData())) {
+                    updates.put(lineNumber, cached.getCacheData());
+                }
+                continue;
+            }
+
+            if (cached != null) {
+                expired.add(lineNumber);
+            }
+
+            LocalDateTime retryAt = missUntil.get(lineNumber);
+            if (retryAt != null && retryAt.isAfter(now)) {
+                continue;
+            }
+
+            MetroCacheService.PositionCacheData loaded = metroCacheService.getLinePositions(lineNumber);
+            if (loaded != null && metroCacheService.isCacheValid(loaded)) {
+                updates.put(lineNumber, loaded);
+                expired.remove(lineNumber);
+                missUntil.remove(lineNumber);
+            } else {
+                missUntil.put(lineNumber, now.plus(MISS_BACKOFF));
+            }
+        }
+
+        if (!updates.isEmpty() || !expired.isEmpty()) {
+            apply(updates, expired);
+        }
+    }
+
+    private void apply(Map<String, MetroCacheService.PositionCacheData> updates, Set<String> removals) {
+        Map<String, RenderedPositions> rendered = new HashMap<>();
+        updates.forEach((lineNumber, data) -> {
+            if (data != null) {
+                RenderedPositions entry = render(lineNumber, data);
+                if (entry != null) {
+                    rendered.put(lineNumber, entry);
+                }
+            }
+        });
+        rendered.values().forEach(entry -> positionEstimator.observe(columnsOf(entry.getCacheData())));
+
+        RenderedPositions allPositions;
+        synchronized (this) {
+            Map<String, RenderedPositions> next = new HashMap<>(snapshot);
+            next.keySet().removeAll(removals);
+            next.putAll(rendered);
+
+            List<MetroCacheService.PositionCacheData> lineData = next.entrySet().stream()
+                    .filter(entry -> !ALL_LINES.equals(entry.getKey()))
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> entry.getValue().getCacheData())
+                    .toList();
+
+            MetroCacheService.PositionCacheData assembled = metroCacheService.assembleAllPositions(lineData);
+            allPositions = assembled != null ? render(ALL_LINES, assembled) : null;
+            if (allPositions != null) {
+                next.put(ALL_LINES, allPositions);
+            } else {
+                next.remove(ALL_LINES);
+            }
+
+            snapshot = Map.copyOf(next);
+        }
+
+        rendered.forEach((lineNumber, entry) ->
+                positionStreamService.publish(lineNumber, columnsOf(entry.getCacheData())));
+        removals.stream()
+                .filter(lineNumber -> !rendered.containsKey(lineNumber))
+                .forEach(lineNumber -> positionStreamService.publish(lineNumber, TrainPositionColumns.EMPTY));
+        positionStreamService.publish(ALL_LINES,
+                allPositions != null ? columnsOf(allPositions.getCacheData()) : TrainPositionColumns.EMPTY);
+    }
+
+    private static TrainPositionColumns columnsOf(MetroCacheService.PositionCacheData cacheData) {
+        return cacheData.getColumns() != null ?
+                cacheData.getColumns() : TrainPositionColumns.of(cacheData.getPositions());
+    }
+
+    private RenderedPositions render(String key, MetroCacheService.PositionCacheData cacheData) {
+        return render(key, cacheData, cacheData.getPositions(), false);
+    }
+
+    private RenderedPositions render(String key, MetroCacheService.PositionCacheData cacheData,
+                                     List<TrainPosition> positions, boolean estimated) {
+        try {
+            boolean stale = !metroCacheService.isFresh(cacheData);
+            String suffix = estimated ? " (추정 위치)" : stale ? " (지연된 데이터)" : " (실시간)";
+            String message = ALL_LINES.equals(key) ?
+                    "전체 노선 위치 정보 조회 성공" + suffix : key + "호선 위치 정보 조회 성공" + suffix;
+
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.builder()
+                    .success(true)
+                    .message(message)
+                    .data(toResponse(cacheData, positions, stale, estimated))
+                    .build());
+
+            return new RenderedPositions(cacheData, body, computeEtag(body), stale);
+        } catch (Exception e) {
+            log.error("지하철 위치 응답 직렬화 실패: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private MetroPositionResponse toResponse(MetroCacheService.PositionCacheData cacheData,
+                                             List<TrainPosition> trainPositions, boolean stale, boolean estimated) {
+        List<TrainPosition> positions = trainPositions != null ? trainPositions : List.of();
+
+        Map<String, Integer> lineStatistics = positions instanceof TrainPositionColumns.PositionList list ?
+                list.columns().countByLine() : positions.stream()
+                .filter(pos -> pos != null && pos.getLineNumber() != null)
+                .collect(Collectors.groupingBy(
+                        pos -> pos.getLineNumber().toString(),
+                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
+                ));
+
+        return MetroPositionResponse.builder()
+                .positions(positions)
+                .totalTrains(positions.size())
+                .lineStatistics(lineStatistics)
+                .lastUpdated(cacheData.getLastUpdated() != null ?
+                        cacheData.getLastUpdated() : LocalDateTime.now())
+                .nextUpdate(cacheData.getNextUpdateTime())
+                .dataSource(estimated ? "ESTIMATED" : "API")
+                .realtime(!stale)
+                .systemStatus(stale ? "STALE" : "HEALTHY")
+                .build();
+    }
+
+    private static String computeEtag(byte[] body) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+        return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    }
+
+    private void recordHistory(Map<String, MetroCacheService.PositionCacheData> linePositions) {
+        if (!historyStore.isEnabled()) {
+            return;
+        }
+
+        linePositions.forEach((lineNumber, cacheData) -> {
+            if (cacheData == null || ALL_LINES.equals(lineNumber)) {
+                return;
+            }
+            long capturedAt = cacheData.getLastUpdated() != null ?
+                    MetroHistoryStore.toMillis(cacheData.getLastUpdated()) : System.currentTimeMillis();
+            try {
+                historyStore.append(Integer.parseInt(lineNumber), columnsOf(cacheData), capturedAt);
+            } catch (RuntimeException e) {
+                log.warn("{}호선 위치 이력 기록 실패: {}", lineNumber, e.getMessage());
+            }
+        });
+    }
+
+    private void publishInvalidation(Set<String> keys) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + String.join(",", keys));
+        } catch (Exception e) {
+            log.warn("지하철 위치 캐시 무효화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf('|');
+        if (separator < 0 || nodeId.equals(payload.substring(0, separator))) {
+            return;
+        }
+
+        Map<String, MetroCacheService.PositionCacheData> updates = new HashMap<>();
+        for (String lineNumber : payload.substring(separator + 1).split(",")) {
+            if (lineNumber.isBlank() || ALL_LINES.equals(lineNumber)) {
+                continue;
+            }
+
+            missUntil.remove(lineNumber);
+            MetroCacheService.PositionCacheData loaded = metroCacheService.getLinePositions(lineNumber);
+            if (loaded != null && metroCacheService.isCacheValid(loaded)) {
+                updates.put(lineNumber, loaded);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            apply(updates, Set.of());
+            recordHistory(updates);
+        }
+        log.debug("지하철 위치 로컬 캐시 갱신 (원격 무효화): {}", updates.keySet());
+    }
+
+    private record EstimatedRender(RenderedPositions observed, RenderedPositions rendered, long renderedAt) {
+    }
+
+    @lombok.Value
+    public static class RenderedPositions {
+        MetroCacheService.PositionCacheData cacheData;
+        byte[] body;
+        String etag;
+        boolean stale;
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || etag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
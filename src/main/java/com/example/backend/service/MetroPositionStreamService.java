@@ -0,0 +1,102 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.metro.MetroPositionDelta;
+import com.example.backend.dto.metro.TrainPosition;
+import com.example.backend.dto.metro.TrainPositionColumns;
+import com.example.backend.dto.metro.TrainPositionDiff;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetroPositionStreamService {
+
+    public static final String ALL_LINES = "ALL";
+
+    private static final String ALL_DESTINATION = "/topic/metro/all";
+    private static final String LINE_DESTINATION_PREFIX = "/topic/metro/line/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<String, StreamState> states = new ConcurrentHashMap<>();
+
+    public synchronized void publish(String key, TrainPositionColumns trains) {
+        StreamState previous = states.getOrDefault(key, StreamState.EMPTY);
+        int[] rows = TrainPositionDiff.uniqueRows(trains);
+
+        TrainPositionDiff diff = TrainPositionDiff.between(previous.trains, previous.rows, trains, rows);
+        if (diff.isEmpty()) {
+            return;
+        }
+
+        long version = previous.version + 1;
+        states.put(key, new StreamState(trains, rows, version));
+
+        MetroPositionDelta delta = MetroPositionDelta.builder()
+                .type(MetroPositionDelta.TYPE_DELTA)
+                .lineNumber(key)
+                .version(version)
+                .previousVersion(previous.version)
+                .added(diff.getAdded())
+                .moved(diff.getMoved())
+                .removed(diff.getRemoved())
+                .generatedAt(LocalDateTime.now())
+                .build();
+
+        try {
+            messagingTemplate.convertAndSend(destinationOf(key), delta);
+            log.debug("지하철 위치 변경 전송: {} v{} (추가 {}, 이동 {}, 제거 {})",
+                    key, version, diff.getAdded().size(), diff.getMoved().size(), diff.getRemoved().size());
+        } catch (Exception e) {
+            log.warn("지하철 위치 변경 전송 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    public MetroPositionDelta snapshot(String key) {
+        StreamState state = states.getOrDefault(key, StreamState.EMPTY);
+
+        return MetroPositionDelta.builder()
+                .type(MetroPositionDelta.TYPE_SNAPSHOT)
+                .lineNumber(key)
+                .version(state.version)
+                .previousVersion(0L)
+                .positions(state.toPositions())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static String destinationOf(String key) {
+        return ALL_LINES.equals(key) ? ALL_DESTINATION : LINE_DESTINATION_PREFIX + key;
+    }
+
+    private static final class StreamState {
+        private static final StreamState EMPTY = new StreamState(TrainPositionColumns.EMPTY, new int[0], 0L);
+
+        private final TrainPositionColumns trains;
+        private final int[] rows;
+        private final long version;
+
+        private StreamState(TrainPositionColumns trains, int[] rows, long version) {
+            this.trains = trains;
+            this.rows = rows;
+            this.version = version;
+        }
+
+        private List<TrainPosition> toPositions() {
+            List<TrainPosition> positions = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                positions.add(trains.toPosition(row));
+            }
+            return positions;
+        }
+    }
+}
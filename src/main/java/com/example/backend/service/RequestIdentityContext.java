@@ -0,0 +1,197 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Character;
+import com.example.backend.entity.Now;
+import com.example.backend.entity.User;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.CharacterRepository;
+import com.example.backend.repository.NowRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.user.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestIdentityContext {
+
+    private static final String STATE_ATTRIBUTE = RequestIdentityContext.class.getName() + ".STATE";
+
+    private final UserRepository userRepository;
+    private final CharacterRepository characterRepository;
+    private final NowRepository nowRepository;
+
+    private final AtomicLong totalAvoidedLookups = new AtomicLong(0);
+    private final AtomicLong totalPerformedLookups = new AtomicLong(0);
+
+    public User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        State state = currentState();
+        if (state.user != null && Objects.equals(state.user.getUserId(), userId)) {
+            state.avoidedLookups++;
+            return state.user;
+        }
+
+        state.reset();
+        state.performedLookups++;
+        state.user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        return state.user;
+    }
+
+    public Optional<Character> findAliveCharacter() {
+        User user = getCurrentUser();
+        State state = currentState();
+
+        if (state.characterResolved) {
+            state.avoidedLookups++;
+            return Optional.ofNullable(state.character);
+        }
+
+        state.performedLookups++;
+        state.character = characterRepository.findByUserAndDeletedAtIsNull(user).orElse(null);
+        state.characterResolved = true;
+        return Optional.ofNullable(state.character);
+    }
+
+    public Character getAliveCharacter() {
+        return findAliveCharacter()
+                .orElseThrow(() -> new ResourceNotFoundException("Living Character", "userId", getCurrentUser().getUserId()));
+    }
+
+    public Optional<Now> findActiveGame() {
+        Optional<Character> character = findAliveCharacter();
+        if (character.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return findActiveGame(character.get());
+    }
+
+    public Optional<Now> findActiveGame(Character character) {
+        if (character == null || character.getCharId() == null) {
+            return Optional.empty();
+        }
+
+        State state = currentState();
+        boolean isContextCharacter = isContextCharacter(character);
+
+        if (isContextCharacter && state.activeGameResolved) {
+            state.avoidedLookups++;
+            return Optional.ofNullable(state.activeGame);
+        }
+
+        state.performedLookups++;
+        Optional<Now> activeGame = nowRepository.findByCharacterIdWithPage(character.getCharId());
+
+        if (isContextCharacter) {
+            state.activeGame = activeGame.orElse(null);
+            state.activeGameResolved = true;
+        }
+
+        return activeGame;
+    }
+
+    public void updateAliveCharacter(Character character) {
+        State state = currentState();
+        state.character = character;
+        state.characterResolved = true;
+        state.activeGame = null;
+        state.activeGameResolved = character == null;
+    }
+
+    public void markCharacterDeleted(Character character) {
+        if (isContextCharacter(character)) {
+            updateAliveCharacter(null);
+        }
+    }
+
+    public void updateActiveGame(Now activeGame) {
+        State state = currentState();
+        if (activeGame != null && !isContextCharacter(activeGame.getCharacter())) {
+            return;
+        }
+
+        state.activeGame = activeGame;
+        state.activeGameResolved = true;
+    }
+
+    public void markGameEnded(Character character) {
+        if (isContextCharacter(character)) {
+            updateActiveGame(null);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "avoidedLookups", totalAvoidedLookups.get(),
+                "performedLookups", totalPerformedLookups.get()
+        );
+    }
+
+    private boolean isContextCharacter(Character character) {
+        State state = currentState();
+        return character != null && state.character != null &&
+                Objects.equals(state.character.getCharId(), character.getCharId());
+    }
+
+    private State currentState() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new State();
+        }
+
+        State state = (State) attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            State newState = new State();
+            attributes.setAttribute(STATE_ATTRIBUTE, newState, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(STATE_ATTRIBUTE, () -> complete(newState),
+                    RequestAttributes.SCOPE_REQUEST);
+            state = newState;
+        }
+
+        return state;
+    }
+
+    private void complete(State state) {
+        totalAvoidedLookups.addAndGet(state.avoidedLookups);
+        totalPerformedLookups.addAndGet(state.performedLookups);
+
+        if (state.avoidedLookups > 0) {
+            log.debug("요청 식별 컨텍스트: 조회 {}회, 재사용으로 생략 {}회",
+                    state.performedLookups, state.avoidedLookups);
+        }
+    }
+
+    private static class State {
+        private User user;
+        private Character character;
+        private boolean characterResolved;
+        private Now activeGame;
+        private boolean activeGameResolved;
+        private int avoidedLookups;
+        private int performedLookups;
+
+        private void reset() {
+            user = null;
+            character = null;
+            characterResolved = false;
+            activeGame = null;
+            activeGameResolved = false;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Station;
+import com.example.backend.repository.StationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StationRegistry {
+
+    public static final long UNKNOWN_ID = -1L;
+
+    private static final long[] FRONTEND_API_STATION_IDS = sorted(
+            1001000108L, 1001000109L, 1001000110L, 1001000111L, 1001000112L, 1001000113L,
+            1001000114L, 1001000115L, 1001000116L, 1001000117L, 1001000118L, 1001000119L,
+            1001000125L, 1001000126L, 1001000127L, 1001000129L, 1001000130L, 1001000131L,
+            1001000132L, 1001000133L, 1001000134L, 1001000135L, 1001000136L, 1001000137L,
+            1001000138L, 1001000139L, 1001000140L, 1001000141L, 1001000142L, 1001000143L,
+            1001000144L, 1001000145L, 1001000146L,
+
+            1002000201L, 1002000202L, 1002000203L, 1002000204L, 1002000205L, 1002000206L,
+            1002000207L, 1002000208L, 1002000209L, 1002000210L, 1002000211L, 1002000212L,
+            1002000213L, 1002000214L, 1002000215L, 1002000216L, 1002000217L, 1002000218L,
+            1002000219L, 1002000220L, 1002000221L, 1002000222L, 1002000223L, 1002000224L,
+            1002000225L, 1002000226L, 1002000227L, 1002000228L, 1002000229L, 1002000230L,
+            1002000231L, 1002000232L, 1002000233L, 1002000234L, 1002000235L, 1002000236L,
+            1002000237L, 1002000238L, 1002000239L, 1002000240L, 1002000241L, 1002000242L,
+            1002000243L, 1002000244L, 1002000245L, 1002000246L, 1002000247L, 1002000248L,
+            1002000249L,
+
+            1003000301L, 1003000302L, 1003000303L, 1003000304L, 1003000305L, 1003000306L,
+            1003000307L, 1003000308L, 1003000309L, 1003000310L, 1003000319L, 1003000320L,
+            1003000321L, 1003000322L, 1003000323L, 1003000324L, 1003000325L, 1003000326L,
+            1003000327L, 1003000328L, 1003000343L, 1003000344L, 1003000345L, 1003000346L,
+            1003000347L, 1003000348L, 1003000349L, 1003000350L, 1003000351L, 1003000352L,
+
+            1004000401L, 1004000402L, 1004000411L, 1004000412L, 1004000413L, 1004000414L,
+            1004000415L, 1004000416L, 1004000417L, 1004000418L, 1004000419L, 1004000420L,
+            1004000421L, 1004000423L, 1004000424L, 1004000425L, 1004000426L, 1004000427L,
+            1004000428L, 1004000429L, 1004000430L, 1004000431L, 1004000432L, 1004000433L,
+            1004000434L, 1004000435L, 1004000436L, 1004000437L, 1004000438L, 1004000439L,
+            1004000440L, 1004000441L, 1004000442L, 1004000443L, 1004000444L, 1004000445L,
+            1004000446L, 1004000447L, 1004000448L, 1004000449L, 1004000450L, 1004000451L,
+            1004000452L, 1004000453L, 1004000454L, 1004000455L, 1004000456L
+    );
+
+    private static final Map<Integer, Integer> FRONTEND_COUNT_BY_LINE = countByLine(FRONTEND_API_STATION_IDS);
+
+    private final StationRepository stationRepository;
+
+    private volatile StationIndex index = StationIndex.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAll() {
+        try {
+            List<Station> stations = stationRepository.findAll();
+            index = StationIndex.of(stations);
+            log.info("역 레지스트리 로드 완료: {}개 역, 노선 {}, 프론트엔드 역 {}개",
+                    index.size(), index.stationsByLine.keySet(), FRONTEND_API_STATION_IDS.length);
+        } catch (Exception e) {
+            log.error("역 레지스트리 로드 실패 - DB 조회로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return index.size() > 0;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public static long parseApiStationId(String apiStationId) {
+        if (apiStationId == null || apiStationId.isEmpty() || apiStationId.length() > 18) {
+            return UNKNOWN_ID;
+        }
+
+        long value = 0L;
+        for (int i = 0; i < apiStationId.length(); i++) {
+            char c = apiStationId.charAt(i);
+            if (c < '0' || c > '9') {
+                return UNKNOWN_ID;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static int lineOfApiStationId(long apiStationId) {
+        return apiStationId < 0 ? 0 : (int) (apiStationId / 1_000_000L % 1000L);
+    }
+
+    public boolean isFrontendStation(long apiStationId) {
+        return apiStationId >= 0 && Arrays.binarySearch(FRONTEND_API_STATION_IDS, apiStationId) >= 0;
+    }
+
+    public boolean isFrontendStation(String apiStationId) {
+        return isFrontendStation(parseApiStationId(apiStationId));
+    }
+
+    public boolean isFrontendStationOnLine(String apiStationId, int lineNumber) {
+        long id = parseApiStationId(apiStationId);
+        return lineOfApiStationId(id) == lineNumber && isFrontendStation(id);
+    }
+
+    public int getFrontendStationCount() {
+        return FRONTEND_API_STATION_IDS.length;
+    }
+
+    public Map<Integer, Integer> getFrontendStationCountByLine() {
+        return FRONTEND_COUNT_BY_LINE;
+    }
+
+    public List<String> getFrontendApiStationIds() {
+        List<String> ids = new ArrayList<>(FRONTEND_API_STATION_IDS.length);
+        for (long id : FRONTEND_API_STATION_IDS) {
+            ids.add(Long.toString(id));
+        }
+        return ids;
+    }
+
+    public StationEntry findByApiStationId(long apiStationId) {
+        return index.byApiStationId(apiStationId);
+    }
+
+    public StationEntry findByApiStationId(String apiStationId) {
+        return index.byApiStationId(parseApiStationId(apiStationId));
+    }
+
+    public StationEntry findByStationId(long stationId) {
+        return index.byStationId(stationId);
+    }
+
+    public StationEntry findByNameAndLine(String name, int lineNumber) {
+        return index.byNameAndLine(name, lineNumber);
+    }
+
+    public List<StationEntry> getLineStations(int lineNumber) {
+        return index.stationsByLine.getOrDefault(lineNumber, List.of());
+    }
+
+    public List<StationEntry> getFrontendLineStations(int lineNumber) {
+        return index.frontendStationsByLine.getOrDefault(lineNumber, List.of());
+    }
+
+    private static long[] sorted(long... ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static Map<Integer, Integer> countByLine(long[] apiStationIds) {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (long id : apiStationIds) {
+            counts.merge(lineOfApiStationId(id), 1, Integer::sum);
+        }
+        return Map.copyOf(counts);
+    }
+
+    @lombok.Value
+    public static class StationEntry {
+        long stationId;
+        long apiStationId;
+        String name;
+        int lineNumber;
+        boolean frontend;
+
+        public String getApiStationIdText() {
+            return apiStationId >= 0 ? Long.toString(apiStationId) : null;
+        }
+    }
+
+    private static final class StationIndex {
+        private static final StationIndex EMPTY = new StationIndex(
+                new StationEntry[0], new long[0], new long[0], new int[0], Map.of(), Map.of(), Map.of());
+
+        private final StationEntry[] entries;
+        private final long[] apiStationIds;
+        private final long[] stationIds;
+        private final int[] stationIdOrder;
+        private final Map<String, int[]> entriesByName;
+        private final Map<Integer, List<StationEntry>> stationsByLine;
+        private final Map<Integer, List<StationEntry>> frontendStationsByLine;
+
+        private StationIndex(StationEntry[] entries, long[] apiStationIds, long[] stationIds, int[] stationIdOrder,
+                             Map<String, int[]> entriesByName,
+                             Map<Integer, List<StationEntry>> stationsByLine,
+                             Map<Integer, List<StationEntry>> frontendStationsByLine) {
+            this.entries = entries;
+            this.apiStationIds = apiStationIds;
+            this.stationIds = stationIds;
+            this.stationIdOrder = stationIdOrder;
+            this.entriesByName = entriesByName;
+            this.stationsByLine = stationsByLine;
+            this.frontendStationsByLine = frontendStationsByLine;
+        }
+
+        private static StationIndex of(List<Station> stations) {
+            StationEntry[] entries = stations.stream()
+                    .filter(station -> station.getStaId() != null && station.getStaLine() != null)
+                    .map(station -> {
+                        long apiId = parseApiStationId(station.getApiStationId());
+                        return new StationEntry(station.getStaId(), apiId, station.getStaName(),
+                                station.getStaLine(), apiId >= 0
+                                        && Arrays.binarySearch(FRONTEND_API_STATION_IDS, apiId) >= 0);
+                    })
+                    .sorted(Comparator.comparingLong(StationEntry::getApiStationId))
+                    .toArray(StationEntry[]::new);
+
+            int size = entries.length;
+            long[] apiStationIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                apiStationIds[i] = entries[i].getApiStationId();
+            }
+
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong(i -> entries[i].getStationId()));
+
+            long[] stationIds = new long[size];
+            int[] stationIdOrder = new int[size];
+            for (int i = 0; i < size; i++) {
+                stationIdOrder[i] = order[i];
+                stationIds[i] = entries[order[i]].getStationId();
+            }
+
+            Map<String, int[]> entriesByName = new HashMap<>();
+            Map<Integer, List<StationEntry>> stationsByLine = new TreeMap<>();
+            Map<Integer, List<StationEntry>> frontendStationsByLine = new TreeMap<>();
+            BitSet frontend = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                StationEntry entry = entries[i];
+                if (entry.getName() != null) {
+                    int[] previous = entriesByName.getOrDefault(entry.getName(), new int[0]);
+                    int[] indexes = Arrays.copyOf(previous, previous.length + 1);
+                    indexes[previous.length] = i;
+                    entriesByName.put(entry.getName(), indexes);
+                }
+                stationsByLine.computeIfAbsent(entry.getLineNumber(), line -> new ArrayList<>()).add(entry);
+                if (entry.isFrontend()) {
+                    frontend.set(i);
+                }
+            }
+            frontend.stream().forEach(i -> frontendStationsByLine
+                    .computeIfAbsent(entries[i].getLineNumber(), line -> new ArrayList<>()).add(entries[i]));
+
+            return new StationIndex(entries, apiStationIds, stationIds, stationIdOrder,
+                    Map.copyOf(entriesByName), immutable(stationsByLine), immutable(frontendStationsByLine));
+        }
+
+        private static Map<Integer, List<StationEntry>> immutable(Map<Integer, List<StationEntry>> source) {
+            Map<Integer, List<StationEntry>> copy = new TreeMap<>();
+            source.forEach((line, stations) -> copy.put(line, List.copyOf(stations)));
+            return Map.copyOf(copy);
+        }
+
+        private int size() {
+            return entries.length;
+        }
+
+        private StationEntry byApiStationId(long apiStationId) {
+            if (apiStationId < 0) {
+                return null;
+            }
+            int position = Arrays.binarySearch(apiStationIds, apiStationId);
+            return position >= 0 ? entries[position] : null;
+        }
+
+        private StationEntry byStationId(long stationId) {
+            int position = Arrays.binarySearch(stationIds, stationId);
+            return position >= 0 ? entries[stationIdOrder[position]] : null;
+        }
+
+        private StationEntry byNameAndLine(String name, int lineNumber) {
+            if (name == null) {
+                return null;
+            }
+            int[] indexes = entriesByName.get(name);
+            if (indexes == null) {
+                return null;
+            }
+            for (int i : indexes) {
+                if (entries[i].getLineNumber() == lineNumber) {
+                    return entries[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.LogERepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoryCompletionIndex {
+
+    private static final String KEY_PREFIX = "game:completed:";
+    private static final long INITIALIZED_BIT = 0L;
+    private static final Duration BITMAP_TTL = Duration.ofDays(1);
+
+    private static final DefaultRedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return #ARGV - 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LogERepository logERepository;
+
+    public CompletionBitmap getCompletions(Long characterId) {
+        if (characterId == null) {
+            return CompletionBitmap.empty();
+        }
+
+        String key = KEY_PREFIX + characterId;
+
+        try {
+            byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+
+            CompletionBitmap bitmap = CompletionBitmap.of(raw);
+            if (bitmap.isInitialized()) {
+                return bitmap;
+            }
+        } catch (Exception e) {
+            log.warn("클리어 비트맵 조회 실패 - DB에서 재구성: charId={}, error={}", characterId, e.getMessage());
+        }
+
+        return rebuild(characterId);
+    }
+
+    public boolean hasCompleted(Long characterId, Long storyId) {
+        return getCompletions(characterId).contains(storyId);
+    }
+
+    public void markCompleted(Long characterId, Long storyId) {
+        if (characterId == null || storyId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    setCompletedBit(characterId, storyId);
+                }
+            });
+            return;
+        }
+
+        setCompletedBit(characterId, storyId);
+    }
+
+    public void evict(Long characterId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + characterId);
+        } catch (Exception e) {
+            log.warn("클리어 비트맵 삭제 실패: charId={}, error={}", characterId, e.getMessage());
+        }
+    }
+
+    private CompletionBitmap rebuild(Long characterId) {
+        List<Long> completedStoryIds = logERepository.findCompletedStoryIdsByCharacter(characterId);
+        CompletionBitmap bitmap = CompletionBitmap.fromStoryIds(completedStoryIds);
+
+        List<String> args = new ArrayList<>(completedStoryIds.size() + 2);
+        args.add(String.valueOf(BITMAP_TTL.getSeconds()));
+        args.add(String.valueOf(INITIALIZED_BIT));
+        for (Long storyId : completedStoryIds) {
+            if (storyId != null && storyId > 0) {
+                args.add(String.valueOf(storyId));
+            }
+        }
+
+        try {
+            redisTemplate.execute(MERGE_SCRIPT, List.of(KEY_PREFIX + characterId), args.toArray());
+        } catch (Exception e) {
+            log.warn("클리어 비트맵 저장 실패: charId={}, error={}", characterId, e.getMessage());
+        }
+
+        return bitmap;
+    }
+
+    private void setCompletedBit(Long characterId, Long storyId) {
+        String key = KEY_PREFIX + characterId;
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().setBit(rawKey, storyId, true);
+                connection.keyCommands().expire(rawKey, BITMAP_TTL.getSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("클리어 비트맵 갱신 실패 - 캐시 무효화: charId={}, storyId={}, error={}",
+                    characterId, storyId, e.getMessage());
+            evict(characterId);
+        }
+    }
+
+    public static final class CompletionBitmap {
+
+        private final byte[] bits;
+
+        private CompletionBitmap(byte[] bits) {
+            this.bits = bits;
+        }
+
+        static CompletionBitmap empty() {
+            return new CompletionBitmap(new byte[1]).withBit(INITIALIZED_BIT);
+        }
+
+        static CompletionBitmap of(byte[] raw) {
+            return new CompletionBitmap(raw != null ? raw : new byte[0]);
+        }
+
+        static CompletionBitmap fromStoryIds(List<Long> storyIds) {
+            long maxStoryId = storyIds.stream()
+                    .filter(id -> id != null && id > 0)
+                    .mapToLong(Long::longValue)
+                    .max()
+                    .orElse(0L);
+
+            CompletionBitmap bitmap = new CompletionBitmap(new byte[(int) (maxStoryId >>> 3) + 1])
+                    .withBit(INITIALIZED_BIT);
+            for (Long storyId : storyIds) {
+                if (storyId != null && storyId > 0) {
+                    bitmap.withBit(storyId);
+                }
+            }
+            return bitmap;
+        }
+
+        public boolean contains(Long storyId) {
+            return storyId != null && storyId > 0 && testBit(storyId);
+        }
+
+        public int cardinality() {
+            int count = 0;
+            for (byte b : bits) {
+                count += Integer.bitCount(b & 0xFF);
+            }
+            return isInitialized() ? count - 1 : count;
+        }
+
+        boolean isInitialized() {
+            return testBit(INITIALIZED_BIT);
+        }
+
+        private boolean testBit(long offset) {
+            long index = offset >>> 3;
+            if (index >= bits.length) {
+                return false;
+            }
+            return (bits[(int) index] & (0x80 >>> (offset & 7))) != 0;
+        }
+
+        private CompletionBitmap withBit(long offset) {
+            bits[(int) (offset >>> 3)] |= (byte) (0x80 >>> (offset & 7));
+            return this;
+        }
+    }
+}
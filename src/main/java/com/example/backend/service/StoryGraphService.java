@@ -0,0 +1,357 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Options;
+import com.example.backend.entity.Page;
+import com.example.backend.entity.Story;
+import com.example.backend.repository.OptionsRepository;
+import com.example.backend.repository.PageRepository;
+import com.example.backend.repository.StoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoryGraphService {
+
+    private static final String INVALIDATION_CHANNEL = "story:graph:invalidate";
+
+    private final StoryRepository storyRepository;
+    private final PageRepository pageRepository;
+    private final OptionsRepository optionsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Long> storyVersions = new ConcurrentHashMap<>();
+    private volatile StoryGraph graph = StoryGraph.empty();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                evictStory(Long.parseLong(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 스토리 그래프 무효화 알림: {}", body);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAll() {
+        try {
+            long startVersion = graph.getVersion();
+            List<Story> stories = storyRepository.findAllWithStation();
+
+            Map<Long, List<Page>> pagesByStory = pageRepository.findAll().stream()
+                    .collect(Collectors.groupingBy(Page::getStoId));
+            Map<Long, List<Options>> optionsByPage = optionsRepository.findAll().stream()
+                    .collect(Collectors.groupingBy(Options::getPageId));
+
+            synchronized (this) {
+                long version = graph.getVersion() + 1;
+                Map<Long, StoryNode> storyNodes = new HashMap<>();
+                for (Story story : stories) {
+                    List<Page> pages = pagesByStory.getOrDefault(story.getStoId(), List.of());
+                    storyNodes.put(story.getStoId(), buildStoryNode(story, pages, optionsByPage, version));
+                }
+
+                storyVersions.forEach((storyId, changedAt) -> {
+                    if (changedAt > startVersion) {
+                        StoryNode current = graph.getStories().get(storyId);
+                        if (current != null) {
+                            storyNodes.put(storyId, current);
+                        } else {
+                            storyNodes.remove(storyId);
+                        }
+                    }
+                });
+
+                replaceGraph(StoryGraph.of(storyNodes, version));
+                log.info("스토리 그래프 로드 완료: version={}, stories={}, pages={}, options={}",
+                        version, storyNodes.size(), graph.getPages().size(), graph.getOptions().size());
+            }
+        } catch (Exception e) {
+            log.error("스토리 그래프 로드 실패 - 요청 시 개별 로드로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    public Optional<StoryNode> refreshStory(Long storyId) {
+        long startVersion = graph.getVersion();
+        Optional<Story> story = storyRepository.findByIdWithStation(storyId);
+        if (story.isEmpty()) {
+            if (graph.getStories().containsKey(storyId)) {
+                evictStory(storyId);
+            }
+            return Optional.empty();
+        }
+
+        List<Page> pages = pageRepository.findByStoIdOrderByPageNumber(storyId);
+        List<Long> pageIds = pages.stream().map(Page::getPageId).toList();
+        Map<Long, List<Options>> optionsByPage = pageIds.isEmpty() ? Map.of() :
+                optionsRepository.findByPageIdIn(pageIds).stream()
+                        .collect(Collectors.groupingBy(Options::getPageId));
+
+        synchronized (this) {
+            long version = graph.getVersion() + 1;
+            StoryNode node = buildStoryNode(story.get(), pages, optionsByPage, version);
+            if (storyVersions.getOrDefault(storyId, 0L) > startVersion) {
+                log.debug("스토리 그래프 갱신 중 변경 감지 - 캐시하지 않음: storyId={}", storyId);
+                return Optional.of(node);
+            }
+
+            storyVersions.put(storyId, version);
+            Map<Long, StoryNode> storyNodes = new HashMap<>(graph.getStories());
+            storyNodes.put(storyId, node);
+            replaceGraph(StoryGraph.of(storyNodes, version));
+
+            log.info("스토리 그래프 갱신: storyId={}, pages={}, version={}", storyId, node.getPages().size(), version);
+            return Optional.of(node);
+        }
+    }
+
+    public synchronized void evictStory(Long storyId) {
+        long version = graph.getVersion() + 1;
+        storyVersions.put(storyId, version);
+        if (!graph.getStories().containsKey(storyId)) {
+            replaceGraph(new StoryGraph(graph.getStories(), graph.getPages(), graph.getOptions(), version));
+            return;
+        }
+
+        Map<Long, StoryNode> storyNodes = new HashMap<>(graph.getStories());
+        storyNodes.remove(storyId);
+        replaceGraph(StoryGraph.of(storyNodes, version));
+
+        log.info("스토리 그래프 제거: storyId={}, version={}", storyId, version);
+    }
+
+    public void publishChange(Long storyId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + storyId);
+        } catch (Exception e) {
+            log.warn("스토리 그래프 무효화 전파 실패: storyId={}, error={}", storyId, e.getMessage());
+        }
+    }
+
+    public Optional<StoryNode> findStory(Long storyId) {
+        if (storyId == null) {
+            return Optional.empty();
+        }
+
+        StoryNode node = graph.getStories().get(storyId);
+        if (node != null) {
+            return Optional.of(node);
+        }
+
+        return refreshStory(storyId);
+    }
+
+    public Optional<PageNode> findPage(Long pageId) {
+        if (pageId == null) {
+            return Optional.empty();
+        }
+
+        PageNode node = graph.getPages().get(pageId);
+        if (node != null) {
+            return Optional.of(node);
+        }
+
+        return pageRepository.findById(pageId)
+                .flatMap(page -> refreshStory(page.getStoId()))
+                .map(story -> graph.getPages().get(pageId));
+    }
+
+    public Optional<OptionNode> findOption(Long optionId) {
+        if (optionId == null) {
+            return Optional.empty();
+        }
+
+        OptionNode node = graph.getOptions().get(optionId);
+        if (node != null) {
+            return Optional.of(node);
+        }
+
+        return optionsRepository.findById(optionId)
+                .flatMap(option -> findPage(option.getPageId()))
+                .map(page -> graph.getOptions().get(optionId));
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    public int getStoryCount() {
+        return graph.getStories().size();
+    }
+
+    private void replaceGraph(StoryGraph newGraph) {
+        this.graph = newGraph;
+    }
+
+    private StoryNode buildStoryNode(Story story, List<Page> pages,
+                                     Map<Long, List<Options>> optionsByPage, long version) {
+        List<Page> orderedPages = pages.stream()
+                .sorted(Comparator.comparingLong(Page::getPageNumber))
+                .toList();
+
+        Map<Long, Page> pagesByNumber = new HashMap<>();
+        for (Page page : orderedPages) {
+            pagesByNumber.put(page.getPageNumber(), page);
+        }
+
+        int totalPages = orderedPages.size();
+        List<PageNode> pageNodes = new ArrayList<>(totalPages);
+
+        for (Page page : orderedPages) {
+            Page nextPage = pagesByNumber.get(page.getPageNumber() + 1);
+
+            List<OptionNode> optionNodes = optionsByPage.getOrDefault(page.getPageId(), List.of()).stream()
+                    .sorted(Comparator.comparingLong(Options::getOptId))
+                    .map(OptionNode::from)
+                    .toList();
+
+            pageNodes.add(PageNode.builder()
+                    .pageId(page.getPageId())
+                    .storyId(story.getStoId())
+                    .pageNumber(page.getPageNumber())
+                    .content(page.getPageContents())
+                    .options(optionNodes)
+                    .totalPages(totalPages)
+                    .lastPage(nextPage == null)
+                    .nextPageId(nextPage != null ? nextPage.getPageId() : null)
+                    .build());
+        }
+
+        return StoryNode.builder()
+                .storyId(story.getStoId())
+                .title(story.getStoTitle())
+                .length(story.getStoLength())
+                .stationName(story.getStation() != null ? story.getStation().getStaName() : null)
+                .stationLine(story.getStation() != null ? story.getStation().getStaLine() : null)
+                .pages(List.copyOf(pageNodes))
+                .version(version)
+                .build();
+    }
+
+    @lombok.Value
+    private static class StoryGraph {
+        Map<Long, StoryNode> stories;
+        Map<Long, PageNode> pages;
+        Map<Long, OptionNode> options;
+        long version;
+
+        static StoryGraph empty() {
+            return new StoryGraph(Map.of(), Map.of(), Map.of(), 0L);
+        }
+
+        static StoryGraph of(Map<Long, StoryNode> stories, long version) {
+            Map<Long, PageNode> pages = new HashMap<>();
+            Map<Long, OptionNode> options = new HashMap<>();
+
+            for (StoryNode story : stories.values()) {
+                for (PageNode page : story.getPages()) {
+                    pages.put(page.getPageId(), page);
+                    for (OptionNode option : page.getOptions()) {
+                        options.put(option.getOptionId(), option);
+                    }
+                }
+            }
+
+            return new StoryGraph(Map.copyOf(stories), Map.copyOf(pages), Map.copyOf(options), version);
+        }
+    }
+
+    @lombok.Value
+    @lombok.Builder
+    public static class StoryNode {
+        Long storyId;
+        String title;
+        int length;
+        String stationName;
+        Integer stationLine;
+        List<PageNode> pages;
+        long version;
+
+        public Optional<PageNode> getFirstPage() {
+            return pages.stream()
+                    .filter(page -> page.getPageNumber() == 1)
+                    .findFirst();
+        }
+    }
+
+    @lombok.Value
+    @lombok.Builder
+    public static class PageNode {
+        long pageId;
+        long storyId;
+        long pageNumber;
+        String content;
+        List<OptionNode> options;
+        int totalPages;
+        boolean lastPage;
+        Long nextPageId;
+    }
+
+    @lombok.Value
+    @lombok.Builder
+    public static class OptionNode {
+        long optionId;
+        long pageId;
+        String content;
+        String effect;
+        int amount;
+        String effectPreview;
+
+        public static OptionNode from(Options option) {
+            return OptionNode.builder()
+                    .optionId(option.getOptId())
+                    .pageId(option.getPageId())
+                    .content(option.getOptContents())
+                    .effect(option.getOptEffect())
+                    .amount(option.getOptAmount())
+                    .effectPreview(createEffectPreview(option.getOptEffect(), option.getOptAmount()))
+                    .build();
+        }
+
+        private static String createEffectPreview(String effect, int amount) {
+            if (effect == null || amount == 0) {
+                return null;
+            }
+
+            return switch (effect.toLowerCase()) {
+                case "health" -> amount > 0 ?
+                        String.format("체력 +%d", amount) :
+                        String.format("체력 %d", amount);
+                case "sanity" -> amount > 0 ?
+                        String.format("정신력 +%d", amount) :
+                        String.format("정신력 %d", amount);
+                default -> null;
+            };
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.backend.dto.game.StoryResponse;
 import com.example.backend.entity.Now;
 import com.example.backend.entity.Station;
 import com.example.backend.entity.Story;
+import com.example.backend.event.StoryCatalogChangedEvent;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.repository.LogERepository;
 import com.example.backend.repository.NowRepository;
@@ -15,11 +16,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,9 +36,10 @@ public class StoryService {
     private final StationRepository stationRepository;
     private final NowRepository nowRepository;
     private final LogERepository logERepository;
-    private final AuthService authService;
-    private final CharacterService characterService;
     private final EntityDtoMapper entityDtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestIdentityContext requestIdentityContext;
+    private final StoryCompletionIndex storyCompletionIndex;
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getUncompletedStoriesByStation(String stationName, Integer lineNumber, Long characterId) {
@@ -44,18 +50,16 @@ public class StoryService {
             return List.of();
         }
 
-        List<Long> completedStoryIds = logERepository.findCompletedStoryIdsByCharacter(characterId);
+        StoryCompletionIndex.CompletionBitmap completions = storyCompletionIndex.getCompletions(characterId);
 
         List<Story> uncompletedStories = allStories.stream()
-                .filter(story -> !completedStoryIds.contains(story.getStoId()))
+                .filter(story -> !completions.contains(story.getStoId()))
                 .collect(Collectors.toList());
 
         log.info("{}역 {}호선 - 전체: {}개, 클리어: {}개, 미완료: {}개",
-                stationName, lineNumber, allStories.size(), completedStoryIds.size(), uncompletedStories.size());
+                stationName, lineNumber, allStories.size(), completions.cardinality(), uncompletedStories.size());
 
-        return uncompletedStories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(uncompletedStories);
     }
 
     @Transactional(readOnly = true)
@@ -76,7 +80,7 @@ public class StoryService {
 
     @Transactional(readOnly = true)
     public boolean hasCharacterCompletedStory(Long characterId, Long storyId) {
-        return logERepository.hasCharacterCompletedStory(characterId, storyId);
+        return storyCompletionIndex.hasCompleted(characterId, storyId);
     }
 
     @Transactional(readOnly = true)
@@ -96,20 +100,16 @@ public class StoryService {
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getAllStories() {
-        List<Story> stories = storyRepository.findAll();
+        List<Story> stories = storyRepository.findAllWithStation();
 
-        return stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(stories);
     }
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getStoriesByLine(Integer lineNumber) {
         List<Story> stories = storyRepository.findByStationLine(lineNumber);
 
-        return stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(stories);
     }
 
     @Transactional(readOnly = true)
@@ -122,9 +122,7 @@ public class StoryService {
 
         Station station = stories.get(0).getStation();
 
-        List<StoryResponse> storyResponses = stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        List<StoryResponse> storyResponses = entityDtoMapper.toStoryResponses(stories);
 
         boolean hasActiveGame = checkHasActiveGame();
 
@@ -155,9 +153,7 @@ public class StoryService {
                     .build();
         }
 
-        List<StoryResponse> storyResponses = stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        List<StoryResponse> storyResponses = entityDtoMapper.toStoryResponses(stories);
 
         return StoryListResponse.builder()
                 .stories(storyResponses)
@@ -170,7 +166,7 @@ public class StoryService {
     @Cacheable(value = "stories", key = "'story_' + #storyId")
     @Transactional(readOnly = true)
     public StoryResponse getStoryById(Long storyId) {
-        Story story = storyRepository.findById(storyId)
+        Story story = storyRepository.findByIdWithStation(storyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", storyId));
 
         return entityDtoMapper.toStoryResponse(story);
@@ -178,20 +174,16 @@ public class StoryService {
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getRandomStories(Integer count) {
-        List<Story> stories = storyRepository.findRandomStories(count);
+        List<Long> storyIds = storyRepository.findRandomStoryIds(count);
 
-        return stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(findStoriesWithStationInOrder(storyIds));
     }
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getRandomStoriesByLine(Integer lineNumber, Integer count) {
-        List<Story> stories = storyRepository.findRandomStoriesByLine(lineNumber, count);
+        List<Long> storyIds = storyRepository.findRandomStoryIdsByLine(lineNumber, count);
 
-        return stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(findStoriesWithStationInOrder(storyIds));
     }
 
     @Transactional(readOnly = true)
@@ -205,29 +197,24 @@ public class StoryService {
             default -> stories = storyRepository.findByLengthRange(6, 9);
         }
 
-        return stories.stream()
-                .map(entityDtoMapper::toStoryResponse)
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(stories);
     }
 
     @Transactional(readOnly = true)
     public boolean canPlayStory(Long storyId) {
         try {
-            authService.getCurrentUser();
-
-            Optional<com.example.backend.dto.character.CharacterResponse> character =
-                    characterService.getCurrentCharacterOptional();
+            Optional<com.example.backend.entity.Character> character = requestIdentityContext.findAliveCharacter();
 
             if (character.isEmpty()) {
                 return false;
             }
 
-            com.example.backend.dto.character.CharacterResponse charResp = character.get();
-            if (charResp.getCharHealth() <= 0 || charResp.getCharSanity() <= 0) {
+            com.example.backend.entity.Character aliveCharacter = character.get();
+            if (aliveCharacter.getCharHealth() <= 0 || aliveCharacter.getCharSanity() <= 0) {
                 return false;
             }
 
-            Optional<Now> activeGame = nowRepository.findByCharacterId(charResp.getCharId());
+            Optional<Now> activeGame = requestIdentityContext.findActiveGame(aliveCharacter);
             return activeGame.isEmpty();
 
         } catch (Exception e) {
@@ -235,18 +222,23 @@ public class StoryService {
         }
     }
 
-    private boolean checkHasActiveGame() {
-        try {
-            authService.getCurrentUser();
-            Optional<com.example.backend.dto.character.CharacterResponse> character =
-                    characterService.getCurrentCharacterOptional();
+    private List<Story> findStoriesWithStationInOrder(List<Long> storyIds) {
+        if (storyIds.isEmpty()) {
+            return List.of();
+        }
 
-            if (character.isEmpty()) {
-                return false;
-            }
+        Map<Long, Story> storiesById = storyRepository.findAllWithStationByIdIn(storyIds).stream()
+                .collect(Collectors.toMap(Story::getStoId, Function.identity()));
+
+        return storyIds.stream()
+                .map(storiesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-            Optional<Now> activeGame = nowRepository.findByCharacterId(character.get().getCharId());
-            return activeGame.isPresent();
+    private boolean checkHasActiveGame() {
+        try {
+            return requestIdentityContext.findActiveGame().isPresent();
 
         } catch (Exception e) {
             return false;
@@ -266,6 +258,7 @@ public class StoryService {
                 .build();
 
         Story savedStory = storyRepository.save(story);
+        eventPublisher.publishEvent(StoryCatalogChangedEvent.saved(savedStory.getStoId()));
 
         return savedStory;
     }
@@ -275,28 +268,20 @@ public class StoryService {
         Story story = storyRepository.findById(storyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Story", "id", storyId));
 
-        List<Now> activeGames = nowRepository.findCharactersInStory(storyId);
-        if (!activeGames.isEmpty()) {
+        if (nowRepository.existsByStoryId(storyId)) {
             throw new IllegalStateException("진행 중인 게임이 있는 스토리는 삭제할 수 없습니다.");
         }
 
         storyRepository.delete(story);
+        eventPublisher.publishEvent(StoryCatalogChangedEvent.deleted(storyId));
         log.info("스토리 삭제: storyId={}, title={}", storyId, story.getStoTitle());
     }
 
     @Transactional(readOnly = true)
     public List<StoryResponse> getStoriesWithStatistics() {
-        List<Story> stories = storyRepository.findAll();
+        List<Story> stories = storyRepository.findAllWithStation();
 
-        return stories.stream()
-                .map(story -> {
-                    StoryResponse response = entityDtoMapper.toStoryResponse(story);
-
-                    List<Now> currentPlayers = nowRepository.findCharactersInStory(story.getStoId());
-
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return entityDtoMapper.toStoryResponses(stories);
     }
 
     @Transactional(readOnly = true)
@@ -9,11 +9,12 @@ import com.example.backend.dto.post.PostResponse;
 import com.example.backend.entity.*;
 import com.example.backend.entity.Character;
 import com.example.backend.repository.CommentLikeRepository;
-import com.example.backend.repository.NowRepository;
 import com.example.backend.repository.OptionsRepository;
 import com.example.backend.repository.PageRepository;
 import com.example.backend.repository.PostStatsRepository;
 import com.example.backend.security.user.CustomUserDetails;
+import com.example.backend.service.RequestIdentityContext;
+import com.example.backend.service.StoryGraphService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -31,9 +32,10 @@ public class EntityDtoMapper {
 
     private final OptionsRepository optionsRepository;
     private final PageRepository pageRepository;
-    private final NowRepository nowRepository;
     private final PostStatsRepository postStatsRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final StoryGraphService storyGraphService;
+    private final RequestIdentityContext requestIdentityContext;
 
     public PostResponse toPostResponse(Post post) {
         if (post == null) {
@@ -107,7 +109,7 @@ public class EntityDtoMapper {
         Long currentStoryId = null;
 
         try {
-            Optional<Now> gameProgress = nowRepository.findByCharacter(character);
+            Optional<Now> gameProgress = requestIdentityContext.findActiveGame(character);
             if (gameProgress.isPresent()) {
                 hasGameProgress = true;
                 currentStoryId = gameProgress.get().getPage().getStoId();
@@ -133,10 +135,25 @@ public class EntityDtoMapper {
             return null;
         }
 
-        boolean canPlay = canPlayStory(story.getStoId());
-        String playStatus = determinePlayStatus(story.getStoId(), canPlay);
+        return toStoryResponse(story, resolveStoryEligibility());
+    }
+
+    public List<StoryResponse> toStoryResponses(List<Story> stories) {
+        if (stories == null || stories.isEmpty()) {
+            return List.of();
+        }
+
+        StoryEligibility eligibility = resolveStoryEligibility();
+
+        return stories.stream()
+                .map(story -> toStoryResponse(story, eligibility))
+                .collect(Collectors.toList());
+    }
+
+    private StoryResponse toStoryResponse(Story story, StoryEligibility eligibility) {
+        Station station = story.getStation();
         String difficulty = determineDifficulty(story.getStoLength());
-        String theme = determineTheme(story.getStation().getStaLine());
+        String theme = determineTheme(station.getStaLine());
 
         return StoryResponse.builder()
                 .storyId(story.getStoId())
@@ -144,11 +161,11 @@ public class EntityDtoMapper {
                 .estimatedLength(story.getStoLength())
                 .difficulty(difficulty)
                 .theme(theme)
-                .description(generateStoryDescription(story))
-                .stationName(story.getStation().getStaName())
-                .stationLine(story.getStation().getStaLine())
-                .canPlay(canPlay)
-                .playStatus(playStatus)
+                .description(generateStoryDescription(station, theme))
+                .stationName(station.getStaName())
+                .stationLine(station.getStaLine())
+                .canPlay(eligibility.isCanPlay())
+                .playStatus(eligibility.getPlayStatus())
                 .build();
     }
 
@@ -157,6 +174,11 @@ public class EntityDtoMapper {
             return null;
         }
 
+        Optional<StoryGraphService.PageNode> pageNode = storyGraphService.findPage(page.getPageId());
+        if (pageNode.isPresent()) {
+            return toPageResponse(pageNode.get());
+        }
+
         List<Options> options = optionsRepository.findByPageId(page.getPageId());
         List<OptionResponse> optionResponses = options.stream()
                 .map(this::toOptionResponse)
@@ -177,17 +199,44 @@ public class EntityDtoMapper {
                 .build();
     }
 
+    public PageResponse toPageResponse(StoryGraphService.PageNode page) {
+        if (page == null) {
+            return null;
+        }
+
+        List<OptionResponse> optionResponses = page.getOptions().stream()
+                .map(this::toOptionResponse)
+                .collect(Collectors.toList());
+
+        return PageResponse.builder()
+                .pageId(page.getPageId())
+                .pageNumber(page.getPageNumber())
+                .content(page.getContent())
+                .options(optionResponses)
+                .isLastPage(page.isLastPage())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+
     public OptionResponse toOptionResponse(Options option) {
         if (option == null) {
             return null;
         }
 
+        return toOptionResponse(StoryGraphService.OptionNode.from(option));
+    }
+
+    public OptionResponse toOptionResponse(StoryGraphService.OptionNode option) {
+        if (option == null) {
+            return null;
+        }
+
         return OptionResponse.builder()
-                .optionId(option.getOptId())
-                .content(option.getOptContents())
-                .effect(option.getOptEffect())
-                .amount(option.getOptAmount())
-                .effectPreview(createEffectPreview(option))
+                .optionId(option.getOptionId())
+                .content(option.getContent())
+                .effect(option.getEffect())
+                .amount(option.getAmount())
+                .effectPreview(option.getEffectPreview())
                 .build();
     }
 
@@ -230,32 +279,15 @@ public class EntityDtoMapper {
         return "보통";
     }
 
-    private boolean canPlayStory(Long storyId) {
+    private StoryEligibility resolveStoryEligibility() {
         try {
             User currentUser = getCurrentUserSafely();
             if (currentUser == null) {
-                return false;
+                return new StoryEligibility(false, "로그인 필요");
             }
-            return true;
+            return new StoryEligibility(true, "플레이 가능");
         } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private String determinePlayStatus(Long storyId, boolean canPlay) {
-        try {
-            User currentUser = getCurrentUserSafely();
-            if (currentUser == null) {
-                return "로그인 필요";
-            }
-
-            if (!canPlay) {
-                return "플레이 불가";
-            }
-
-            return "플레이 가능";
-        } catch (Exception e) {
-            return "새로운 스토리";
+            return new StoryEligibility(false, "새로운 스토리");
         }
     }
 
@@ -288,30 +320,15 @@ public class EntityDtoMapper {
         };
     }
 
-    private String generateStoryDescription(Story story) {
-        String theme = determineTheme(story.getStation().getStaLine());
-        
+    private String generateStoryDescription(Station station, String theme) {
         return String.format("%s역에서 펼쳐지는 %s 장르의 텍스트 어드벤처입니다. ",
-                story.getStation().getStaName(),
+                station.getStaName(),
                 theme);
     }
 
-    private String createEffectPreview(Options option) {
-        if (option.getOptEffect() == null || option.getOptAmount() == 0) {
-            return null;
-        }
-
-        String effectType = option.getOptEffect().toLowerCase();
-        int amount = option.getOptAmount();
-
-        return switch (effectType) {
-            case "health" -> amount > 0 ?
-                    String.format("체력 +%d", amount) :
-                    String.format("체력 %d", amount);
-            case "sanity" -> amount > 0 ?
-                    String.format("정신력 +%d", amount) :
-                    String.format("정신력 %d", amount);
-            default -> null;
-        };
+    @lombok.Value
+    private static class StoryEligibility {
+        boolean canPlay;
+        String playStatus;
     }
 }
\ No newline at end of file
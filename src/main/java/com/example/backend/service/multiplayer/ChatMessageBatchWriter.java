@@ -0,0 +1,90 @@
+package com.example.backend.service.multiplayer;
+
+import com.example.backend.repository.multiplayer.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_message (room_id, user_id, message_type, phase, content, created_at, room_seq) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT (room_id, room_seq) DO NOTHING RETURNING message_id, room_id, room_seq";
+    private static final int COLUMNS = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageRepository messageRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult writeBatch(List<ChatWriteBehindService.JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return new BatchResult(List.of(), List.of());
+        }
+
+        StringJoiner sql = new StringJoiner(", ", INSERT_PREFIX, INSERT_SUFFIX);
+        Object[] args = new Object[entries.size() * COLUMNS];
+        int index = 0;
+        for (ChatWriteBehindService.JournalEntry entry : entries) {
+            sql.add(INSERT_ROW);
+            args[index++] = entry.getRoomId();
+            args[index++] = new SqlParameterValue(Types.BIGINT, entry.getUserId());
+            args[index++] = entry.getMessageType();
+            args[index++] = entry.getPhase();
+            args[index++] = entry.getContent();
+            args[index++] = entry.getCreatedAt();
+            args[index++] = entry.getRoomSeq();
+        }
+
+        List<PersistedMessage> persisted = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new PersistedMessage(rs.getLong(2), rs.getLong(3), rs.getLong(1)), args);
+        Set<String> inserted = new HashSet<>(persisted.size() * 2);
+        for (PersistedMessage message : persisted) {
+            inserted.add(keyOf(message.getRoomId(), message.getRoomSeq()));
+        }
+
+        List<ChatWriteBehindService.JournalEntry> conflicts = new ArrayList<>();
+        for (ChatWriteBehindService.JournalEntry entry : entries) {
+            if (!inserted.contains(keyOf(entry.getRoomId(), entry.getRoomSeq()))
+                    && !messageRepository.existsSameMessage(
+                            entry.getRoomId(), entry.getRoomSeq(), entry.getUserId(), entry.getContent())) {
+                conflicts.add(entry);
+            }
+        }
+        return new BatchResult(persisted, conflicts);
+    }
+
+    private static String keyOf(long roomId, long roomSeq) {
+        return roomId + ":" + roomSeq;
+    }
+
+    @lombok.Value
+    public static class BatchResult {
+        List<PersistedMessage> persisted;
+        List<ChatWriteBehindService.JournalEntry> conflicts;
+
+        public int getWritten() {
+            return persisted.size();
+        }
+    }
+
+    @lombok.Value
+    public static class PersistedMessage {
+        long roomId;
+        long roomSeq;
+        long messageId;
+    }
+}
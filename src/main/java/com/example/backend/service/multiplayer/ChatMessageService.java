@@ -3,18 +3,20 @@ package com.example.backend.service.multiplayer;
 import com.example.backend.dto.multiplayer.ChatMessageRequest;
 import com.example.backend.dto.multiplayer.ChatMessageResponse;
 import com.example.backend.dto.multiplayer.RoomVoteResponse;
-import com.example.backend.entity.User;
 import com.example.backend.entity.multiplayer.*;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.repository.multiplayer.*;
-import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -27,42 +29,43 @@ public class ChatMessageService {
 
     private final ChatMessageRepository messageRepository;
     private final MultiplayerRoomRepository roomRepository;
-    private final RoomParticipantRepository participantRepository;
-    private final UserRepository userRepository;
     private final MessageSanitizer messageSanitizer;
     private final RateLimiter rateLimiter;
+    private final RoomRosterCache rosterCache;
+    private final ChatWriteBehindService writeBehindService;
+    private final RecentMessageBuffer recentBuffer;
 
-    @Transactional
     public ChatMessageResponse sendMessage(Long roomId, ChatMessageRequest request, Long userId) {
-        if (!rateLimiter.allowMessage(userId)) {
-            long cooldown = rateLimiter.getRemainingCooldown(userId);
-            throw new IllegalStateException(cooldown + "ms 후에 다시 시도해주세요");
-        }
-
-        MultiplayerRoom room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("방을 찾을 수 없습니다"));
+        rateLimiter.requirePermit(userId, RateLimiter.BucketType.CHAT);
 
-        boolean isParticipant = participantRepository
-                .existsByRoomIdAndUserId(roomId, userId);
-        if (!isParticipant) {
-            throw new IllegalStateException("방 참가자만 메시지를 보낼 수 있습니다");
-        }
-
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        RoomRosterCache.Speaker speaker = rosterCache.requireSpeaker(roomId, userId);
+        Integer phase = rosterCache.getRoster(roomId).getPhase();
         String sanitizedContent = messageSanitizer.sanitize(request.getContent());
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
 
-        ChatMessage message = ChatMessage.builder()
-                .room(room)
-                .user(currentUser)
-                .messageType(MessageType.USER)
+        long sequence = writeBehindService.journal(
+                roomId, userId, MessageType.USER.name(), phase, sanitizedContent, createdAt);
+
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .roomId(roomId)
+                .sequence(sequence)
+                .messageType(MessageType.USER.name())
                 .content(sanitizedContent)
-                .phase(room.getCurrentPhase())
+                .userId(speaker.getUserId())
+                .username(speaker.getUsername())
+                .characterName(speaker.getCharacterName())
+                .createdAt(createdAt)
                 .build();
+        recentBuffer.append(response);
+        return response;
+    }
 
-        message = messageRepository.save(message);
+    public void flushPendingMessages(Long roomId) {
+        writeBehindService.flushRoom(roomId);
+    }
 
-        return toMessageResponse(message);
+    public void invalidateRoster(Long roomId) {
+        rosterCache.invalidate(roomId);
     }
 
     @Transactional
@@ -76,11 +79,12 @@ public class ChatMessageService {
                 .messageType(MessageType.SYSTEM)
                 .content(content)
                 .metadata(metadata)
+                .roomSeq(allocateSequence(roomId))
                 .build();
 
         message = messageRepository.save(message);
 
-        return toMessageResponse(message);
+        return bufferAfterCommit(toMessageResponse(message, Map.of()));
     }
 
     @Transactional
@@ -95,13 +99,14 @@ public class ChatMessageService {
                 .content(content)
                 .phase(phase)
                 .metadata(Map.of("phase", phase))
+                .roomSeq(allocateSequence(roomId))
                 .build();
 
         message = messageRepository.save(message);
 
         log.info("LLM message sent in room {} for phase {}", roomId, phase);
 
-        return toMessageResponse(message);
+        return bufferAfterCommit(toMessageResponse(message, Map.of()));
     }
 
     @Transactional
@@ -116,11 +121,12 @@ public class ChatMessageService {
                 .content(content)
                 .phase(phase)
                 .metadata(Map.of("phase", phase))
+                .roomSeq(allocateSequence(roomId))
                 .build();
 
         message = messageRepository.save(message);
 
-        return toMessageResponse(message);
+        return bufferAfterCommit(toMessageResponse(message, Map.of()));
     }
 
     @Transactional
@@ -149,36 +155,45 @@ public class ChatMessageService {
                 .messageType(MessageType.VOTE)
                 .content("투표 상태 업데이트")
                 .metadata(metadata)
+                .roomSeq(allocateSequence(roomId))
                 .build();
 
         message = messageRepository.save(message);
 
-        return toMessageResponse(message);
+        return bufferAfterCommit(toMessageResponse(message, Map.of()));
     }
 
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getMessages(Long roomId, int limit) {
+        List<ChatMessageResponse> buffered = recentBuffer.tail(roomId, limit, writeBehindService.currentSequence(roomId));
+        if (buffered != null) {
+            return buffered;
+        }
+
+        writeBehindService.flushRoom(roomId);
         Pageable pageable = PageRequest.of(0, limit);
         List<ChatMessage> messages = messageRepository
                 .findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
 
         Collections.reverse(messages);
 
-        return messages.stream()
-                .map(this::toMessageResponse)
-                .collect(Collectors.toList());
+        List<ChatMessageResponse> responses = toMessageResponses(roomId, messages);
+        recentBuffer.appendRange(roomId, null, responses);
+        if (messages.size() < limit && messages.stream().allMatch(message -> message.getRoomSeq() != null)) {
+            recentBuffer.markComplete(roomId);
+        }
+        return responses;
     }
 
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getRecentUserMessages(Long roomId, int limit) {
+        writeBehindService.flushRoom(roomId);
         Pageable pageable = PageRequest.of(0, limit);
         List<MessageType> userTypes = List.of(MessageType.USER);
         List<ChatMessage> messages = messageRepository
                 .findRecentUserMessages(roomId, userTypes, pageable);
 
-        return messages.stream()
-                .map(this::toMessageResponse)
-                .collect(Collectors.toList());
+        return toMessageResponses(roomId, messages);
     }
 
     @Transactional(readOnly = true)
@@ -187,34 +202,105 @@ public class ChatMessageService {
             return getMessages(roomId, limit);
         }
 
+        Long lastSequence = recentBuffer.sequenceOf(roomId, lastMessageId);
+        if (lastSequence != null) {
+            List<ChatMessageResponse> buffered = recentBuffer.after(
+                    roomId, lastSequence, limit, writeBehindService.currentSequence(roomId));
+            if (buffered != null) {
+                return buffered;
+            }
+        }
+
+        writeBehindService.flushRoom(roomId);
         Pageable pageable = PageRequest.of(0, limit);
         List<ChatMessage> messages = messageRepository
                 .findAfterMessageId(roomId, lastMessageId, pageable);
 
+        List<ChatMessageResponse> responses = toMessageResponses(roomId, messages);
+        recentBuffer.appendAll(responses);
+        return responses;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesAfterSequence(Long roomId, Long lastSequence, int limit) {
+        if (lastSequence == null || lastSequence < 0) {
+            return getMessages(roomId, limit);
+        }
+
+        List<ChatMessageResponse> buffered = recentBuffer.after(
+                roomId, lastSequence, limit, writeBehindService.currentSequence(roomId));
+        if (buffered != null) {
+            return buffered;
+        }
+
+        writeBehindService.flushRoom(roomId);
+        Pageable pageable = PageRequest.of(0, limit);
+        List<ChatMessage> messages = messageRepository
+                .findAfterSequence(roomId, lastSequence, pageable);
+
+        List<ChatMessageResponse> responses = toMessageResponses(roomId, messages);
+        recentBuffer.appendRange(roomId, lastSequence + 1, responses);
+        return responses;
+    }
+
+    private long allocateSequence(Long roomId) {
+        long sequence = writeBehindService.nextSequence(roomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        recentBuffer.skip(roomId, sequence);
+                    }
+                }
+            });
+        }
+        return sequence;
+    }
+
+    private ChatMessageResponse bufferAfterCommit(ChatMessageResponse response) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentBuffer.append(response);
+                }
+            });
+        } else {
+            recentBuffer.append(response);
+        }
+        return response;
+    }
+
+    private List<ChatMessageResponse> toMessageResponses(Long roomId, List<ChatMessage> messages) {
+        boolean hasUserMessages = messages.stream().anyMatch(message -> message.getUser() != null);
+        Map<Long, RoomRosterCache.Speaker> speakers = hasUserMessages ?
+                rosterCache.getRoster(roomId).getSpeakers() : Map.of();
+
         return messages.stream()
-                .map(this::toMessageResponse)
+                .map(message -> toMessageResponse(message, speakers))
                 .collect(Collectors.toList());
     }
 
-    private ChatMessageResponse toMessageResponse(ChatMessage message) {
+    private ChatMessageResponse toMessageResponse(ChatMessage message, Map<Long, RoomRosterCache.Speaker> speakers) {
         String characterName = null;
         Long userId = null;
         String username = null;
 
         if (message.getUser() != null) {
             userId = message.getUser().getUserId();
-            username = message.getUser().getUserName();
-            RoomParticipant participant = participantRepository
-                    .findByRoomIdAndUserId(message.getRoom().getRoomId(), userId)
-                    .orElse(null);
-            if (participant != null && participant.getCharacter() != null) {
-                characterName = participant.getCharacter().getCharName();
+            RoomRosterCache.Speaker speaker = speakers.get(userId);
+            if (speaker != null) {
+                username = speaker.getUsername();
+                characterName = speaker.getCharacterName();
+            } else {
+                username = message.getUser().getUserName();
             }
         }
-
         return ChatMessageResponse.builder()
                 .messageId(message.getMessageId())
                 .roomId(message.getRoom().getRoomId())
+                .sequence(message.getRoomSeq())
                 .messageType(message.getMessageType().name())
                 .content(message.getContent())
                 .userId(userId)
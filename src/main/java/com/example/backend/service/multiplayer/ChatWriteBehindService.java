@@ -0,0 +1,376 @@
+package com.example.backend.service.multiplayer;
+
+import com.example.backend.repository.multiplayer.ChatMessageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatWriteBehindService {
+
+    private static final String STREAM_KEY = "chat:journal";
+    private static final String PENDING_KEY = "chat:journal:pending";
+    private static final String GROUP = "chat-writers";
+    private static final String SEQUENCE_KEY_PREFIX = "chat:room:";
+    private static final String SEQUENCE_KEY_SUFFIX = ":seq";
+    private static final long SEQUENCE_TTL_SECONDS = 30L * 24 * 60 * 60;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final long SEQUENCE_MISSING = -1L;
+    private static final int MAX_RESEQUENCE_ATTEMPTS = 3;
+
+    private static final String ALLOCATE =
+            "if ARGV[1] == '' and redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "local floor = tonumber(ARGV[1]) or 0 " +
+            "if seq <= floor then seq = floor + 1 redis.call('SET', KEYS[1], seq) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) ";
+
+    private static final DefaultRedisScript<Long> SEQUENCE_SCRIPT =
+            new DefaultRedisScript<>(ALLOCATE + "return seq", Long.class);
+
+    private static final DefaultRedisScript<Long> JOURNAL_SCRIPT = new DefaultRedisScript<>(ALLOCATE +
+            "redis.call('XADD', KEYS[2], '*', 'roomId', ARGV[3], 'roomSeq', seq, 'userId', ARGV[4], " +
+            "'messageType', ARGV[5], 'phase', ARGV[6], 'content', ARGV[7], 'createdAt', ARGV[8]) " +
+            "redis.call('HINCRBY', KEYS[3], ARGV[3], 1) " +
+            "return seq", Long.class);
+
+    private static final DefaultRedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>(
+            "local acked = 0 " +
+            "for i = 2, #ARGV, 2 do " +
+            "  if redis.call('XACK', KEYS[1], ARGV[1], ARGV[i]) == 1 then " +
+            "    acked = acked + 1 " +
+            "    if ARGV[i + 1] ~= '' and redis.call('HINCRBY', KEYS[2], ARGV[i + 1], -1) <= 0 then " +
+            "      redis.call('HDEL', KEYS[2], ARGV[i + 1]) " +
+            "    end " +
+            "  end " +
+            "  redis.call('XDEL', KEYS[1], ARGV[i]) " +
+            "end " +
+            "return acked", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository messageRepository;
+    private final ChatMessageBatchWriter batchWriter;
+    private final RecentMessageBuffer recentBuffer;
+
+    @Value("${behindy.chat.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${behindy.chat.write-behind.claim-idle:30000}")
+    private long claimIdleMs;
+
+    private final String consumerName = UUID.randomUUID().toString();
+    private final AtomicLong journaledCount = new AtomicLong(0);
+    private final AtomicLong persistedCount = new AtomicLong(0);
+    private final AtomicLong duplicateCount = new AtomicLong(0);
+    private final AtomicLong discardedCount = new AtomicLong(0);
+    private final AtomicLong resequencedCount = new AtomicLong(0);
+    private volatile LocalDateTime lastFlushTime = null;
+
+    @PostConstruct
+    public void init() {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.streamCommands().xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP,
+                        ReadOffset.from("0"), true);
+                return null;
+            });
+            log.info("채팅 저장 저널 소비자 그룹 생성: {}", GROUP);
+        } catch (Exception e) {
+            log.debug("채팅 저장 저널 소비자 그룹 이미 존재: {}", e.getMessage());
+        }
+    }
+
+    public long nextSequence(Long roomId) {
+        return allocate(roomId, floor -> redisTemplate.execute(SEQUENCE_SCRIPT, List.of(sequenceKey(roomId)),
+                floor, String.valueOf(SEQUENCE_TTL_SECONDS)));
+    }
+
+    public long journal(Long roomId, Long userId, String messageType, Integer phase, String content,
+                        LocalDateTime createdAt) {
+        long sequence = allocate(roomId, floor -> redisTemplate.execute(JOURNAL_SCRIPT,
+                List.of(sequenceKey(roomId), STREAM_KEY, PENDING_KEY),
+                floor,
+                String.valueOf(SEQUENCE_TTL_SECONDS),
+                String.valueOf(roomId),
+                userId != null ? String.valueOf(userId) : "",
+                messageType,
+                String.valueOf(phase != null ? phase : 0),
+                content,
+                String.valueOf(createdAt.atZone(ZONE).toInstant().toEpochMilli())));
+
+        journaledCount.incrementAndGet();
+        return sequence;
+    }
+
+    public long currentSequence(Long roomId) {
+        String value = redisTemplate.opsForValue().get(sequenceKey(roomId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public void flushRoom(Long roomId) {
+        Object pending = redisTemplate.opsForHash().get(PENDING_KEY, String.valueOf(roomId));
+        if (pending != null && Long.parseLong(String.valueOf(pending)) > 0) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.chat.write-behind.flush-interval:500}")
+    public synchronized void flush() {
+        try {
+            int processed;
+            do {
+                List<MapRecord<String, Object, Object>> records = readOwnPending();
+                if (records.isEmpty()) {
+                    records = readNew();
+                }
+                processed = process(records);
+            } while (processed >= batchSize);
+        } catch (Exception e) {
+            log.warn("채팅 저장 저널 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.chat.write-behind.claim-interval:30000}")
+    public synchronized void claimAbandoned() {
+        try {
+            PendingMessages pending = redisTemplate.opsForStream()
+                    .pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+            Duration minIdle = Duration.ofMillis(claimIdleMs);
+
+            List<RecordId> abandoned = new ArrayList<>();
+            for (PendingMessage message : pending) {
+                if (!consumerName.equals(message.getConsumerName())
+                        && message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                    abandoned.add(message.getId());
+                }
+            }
+            if (abandoned.isEmpty()) {
+                return;
+            }
+
+            List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                    .claim(STREAM_KEY, GROUP, consumerName, minIdle, abandoned.toArray(RecordId[]::new));
+            log.info("중단된 노드의 채팅 저장 저널 {}건 인수", claimed.size());
+            process(claimed);
+        } catch (Exception e) {
+            log.warn("채팅 저장 저널 인수 실패: {}", e.getMessage());
+        }
+    }
+
+    public WriteBehindStatistics getStatistics() {
+        Long streamLength = null;
+        try {
+            streamLength = redisTemplate.opsForStream().size(STREAM_KEY);
+        } catch (Exception e) {
+            log.debug("채팅 저장 저널 길이 조회 실패: {}", e.getMessage());
+        }
+
+        return WriteBehindStatistics.builder()
+                .journaledCount(journaledCount.get())
+                .persistedCount(persistedCount.get())
+                .duplicateCount(duplicateCount.get())
+                .discardedCount(discardedCount.get())
+                .resequencedCount(resequencedCount.get())
+                .journalLength(streamLength)
+                .lastFlushTime(lastFlushTime)
+                .build();
+    }
+
+    private List<MapRecord<String, Object, Object>> readOwnPending() {
+        return read(ReadOffset.from("0"));
+    }
+
+    private List<MapRecord<String, Object, Object>> readNew() {
+        return read(ReadOffset.lastConsumed());
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records != null ? records : List.of();
+    }
+
+    private int process(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<JournalEntry> entries = new ArrayList<>(records.size());
+        List<String> acknowledgements = new ArrayList<>(records.size() * 2 + 1);
+        acknowledgements.add(GROUP);
+        for (MapRecord<String, Object, Object> record : records) {
+            JournalEntry entry = toEntry(record.getValue());
+            if (entry != null) {
+                entries.add(entry);
+            } else {
+                discardedCount.incrementAndGet();
+                log.error("손상된 채팅 저장 저널 항목 폐기: id={}", record.getId());
+            }
+            Object roomId = record.getValue().get("roomId");
+            acknowledgements.add(record.getId().getValue());
+            acknowledgements.add(roomId != null ? String.valueOf(roomId) : "");
+        }
+
+        try {
+            record(entries, batchWriter.writeBatch(entries));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("채팅 배치 저장 실패 - 개별 저장으로 재시도: size={}, error={}", entries.size(), e.getMessage());
+            writeIndividually(entries);
+        }
+
+        redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(STREAM_KEY, PENDING_KEY), acknowledgements.toArray());
+        lastFlushTime = LocalDateTime.now();
+        return records.size();
+    }
+
+    private void writeIndividually(List<JournalEntry> entries) {
+        for (JournalEntry entry : entries) {
+            try {
+                record(List.of(entry), batchWriter.writeBatch(List.of(entry)));
+            } catch (DataIntegrityViolationException e) {
+                discardedCount.incrementAndGet();
+                log.error("채팅 메시지 저장 불가로 폐기: roomId={}, seq={}, error={}",
+                        entry.getRoomId(), entry.getRoomSeq(), e.getMessage());
+            }
+        }
+    }
+
+    private void record(List<JournalEntry> entries, ChatMessageBatchWriter.BatchResult result) {
+        persistedCount.addAndGet(result.getWritten());
+        for (ChatMessageBatchWriter.PersistedMessage message : result.getPersisted()) {
+            recentBuffer.assignMessageId(message.getRoomId(), message.getRoomSeq(), message.getMessageId());
+        }
+        duplicateCount.addAndGet(entries.size() - result.getWritten() - result.getConflicts().size());
+
+        for (JournalEntry conflict : result.getConflicts()) {
+            resequence(conflict);
+        }
+    }
+
+    private void resequence(JournalEntry conflict) {
+        JournalEntry entry = conflict;
+        for (int attempt = 0; attempt < MAX_RESEQUENCE_ATTEMPTS; attempt++) {
+            JournalEntry resequenced = entry.toBuilder()
+                    .roomSeq(nextSequence(entry.getRoomId()))
+                    .build();
+            log.error("채팅 메시지 순번 충돌 - 새 순번으로 저장: roomId={}, seq={} -> {}",
+                    entry.getRoomId(), entry.getRoomSeq(), resequenced.getRoomSeq());
+
+            ChatMessageBatchWriter.BatchResult retry = batchWriter.writeBatch(List.of(resequenced));
+            resequencedCount.incrementAndGet();
+            recentBuffer.evict(entry.getRoomId());
+            if (retry.getConflicts().isEmpty()) {
+                persistedCount.addAndGet(retry.getWritten());
+                return;
+            }
+            entry = resequenced;
+        }
+
+        discardedCount.incrementAndGet();
+        log.error("채팅 메시지 순번 충돌 반복으로 폐기: roomId={}, seq={}, attempts={}",
+                entry.getRoomId(), entry.getRoomSeq(), MAX_RESEQUENCE_ATTEMPTS);
+    }
+
+    private long allocate(Long roomId, Function<String, Long> script) {
+        Long seq = script.apply("");
+        if (seq != null && seq == SEQUENCE_MISSING) {
+            seq = script.apply(String.valueOf(sequenceFloor(roomId)));
+        }
+        return requireSequence(seq);
+    }
+
+    private long sequenceFloor(Long roomId) {
+        if (!Thread.holdsLock(this)) {
+            flush();
+        }
+        long floor = messageRepository.findMaxRoomSeq(roomId);
+        log.info("방 메시지 순번 키 초기화: roomId={}, floor={}", roomId, floor);
+        return floor;
+    }
+
+    private static long requireSequence(Long seq) {
+        if (seq == null) {
+            throw new IllegalStateException("메시지 순번 발급 실패");
+        }
+        return seq;
+    }
+
+    private static String sequenceKey(Long roomId) {
+        return SEQUENCE_KEY_PREFIX + roomId + SEQUENCE_KEY_SUFFIX;
+    }
+
+    private static JournalEntry toEntry(Map<Object, Object> fields) {
+        try {
+            String userId = String.valueOf(fields.get("userId"));
+            return JournalEntry.builder()
+                    .roomId(Long.valueOf(String.valueOf(fields.get("roomId"))))
+                    .roomSeq(Long.valueOf(String.valueOf(fields.get("roomSeq"))))
+                    .userId(userId.isEmpty() ? null : Long.valueOf(userId))
+                    .messageType(String.valueOf(fields.get("messageType")))
+                    .phase(Integer.valueOf(String.valueOf(fields.get("phase"))))
+                    .content(String.valueOf(fields.get("content")))
+                    .createdAt(LocalDateTime.ofInstant(
+                            Instant.ofEpochMilli(Long.parseLong(String.valueOf(fields.get("createdAt")))), ZONE))
+                    .build();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @lombok.Value
+    @lombok.Builder(toBuilder = true)
+    public static class JournalEntry {
+        Long roomId;
+        Long roomSeq;
+        Long userId;
+        String messageType;
+        Integer phase;
+        String content;
+        LocalDateTime createdAt;
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class WriteBehindStatistics {
+        private long journaledCount;
+        private long persistedCount;
+        private long duplicateCount;
+        private long discardedCount;
+        private long resequencedCount;
+        private Long journalLength;
+        private LocalDateTime lastFlushTime;
+    }
+}
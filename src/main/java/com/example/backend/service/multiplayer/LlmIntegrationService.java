@@ -32,6 +32,8 @@ public class LlmIntegrationService {
     private final ChatMessageRepository chatMessageRepository;
     private final MultiplayerStoryStateRepository storyStateRepository;
     private final ChatMessageService chatMessageService;
+    private final RoomRosterCache rosterCache;
+    private final RoomMembershipIndex membershipIndex;
     private final SimpMessagingTemplate messagingTemplate;
 
     @Value("${ai.server.timeout:60000}")
@@ -65,6 +67,9 @@ public class LlmIntegrationService {
             sendAiThinkingMessage(roomId);
 
             boolean isIntro = room.getCurrentPhase() == 0;
+            if (!isIntro) {
+                chatMessageService.flushPendingMessages(roomId);
+            }
             List<ChatMessage> messageStack = isIntro ? Collections.emptyList() :
                 getMessageStack(roomId, room.getCurrentPhase());
 
@@ -199,6 +204,7 @@ public class LlmIntegrationService {
 
             room.setIsLlmProcessing(false);
             roomRepository.save(room);
+            rosterCache.invalidate(room.getRoomId());
 
             broadcastLlmResponse(room.getRoomId(), response);
             broadcastParticipantUpdates(room.getRoomId(), participants);
@@ -324,6 +330,8 @@ public class LlmIntegrationService {
     protected void handleParticipantDeath(RoomParticipant participant) {
         participant.leave();
         participantRepository.save(participant);
+        rosterCache.invalidate(participant.getRoom().getRoomId());
+        membershipIndex.removeMember(participant.getRoom().getRoomId(), participant.getUser().getUserId());
 
         String deathMessage = String.format("%s님이 사망하여 방에서 퇴장합니다.",
             participant.getCharacter().getCharName());
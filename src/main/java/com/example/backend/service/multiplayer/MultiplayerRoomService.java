@@ -9,6 +9,7 @@ import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.repository.*;
 import com.example.backend.repository.multiplayer.*;
 import com.example.backend.service.AuthService;
+import com.example.backend.service.StationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -28,10 +29,13 @@ public class MultiplayerRoomService {
     private final MultiplayerRoomRepository roomRepository;
     private final RoomParticipantRepository participantRepository;
     private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
     private final CharacterRepository characterRepository;
     private final UserStoryStatsRepository statsRepository;
     private final AuthService authService;
     private final ChatMessageService chatMessageService;
+    private final RoomRosterCache rosterCache;
+    private final RoomMembershipIndex membershipIndex;
     private final VoteService voteService;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -79,6 +83,8 @@ public class MultiplayerRoomService {
                 .build();
 
         participantRepository.save(participant);
+        rosterCache.invalidate(room.getRoomId());
+        membershipIndex.addMember(room.getRoomId(), currentUser.getUserId());
 
         UserStoryStats stats = getOrCreateUserStats(currentUser);
         stats.incrementParticipations();
@@ -139,6 +145,8 @@ public class MultiplayerRoomService {
                 .build();
 
         participantRepository.save(participant);
+        rosterCache.invalidate(roomId);
+        membershipIndex.addMember(roomId, currentUser.getUserId());
 
         UserStoryStats stats = getOrCreateUserStats(currentUser);
         stats.incrementParticipations();
@@ -157,6 +165,8 @@ public class MultiplayerRoomService {
 
         participant.leave();
         participantRepository.save(participant);
+        rosterCache.invalidate(roomId);
+        membershipIndex.removeMember(roomId, currentUser.getUserId());
 
         MultiplayerRoom room = participant.getRoom();
         long activeCount = participantRepository.countActiveParticipantsByRoomId(roomId);
@@ -188,6 +198,21 @@ public class MultiplayerRoomService {
     }
 
     private Station resolveStation(Long stationId, String stationName, Integer lineNumber) {
+        if (stationId == null && (!StringUtils.hasText(stationName) || lineNumber == null)) {
+            throw new IllegalArgumentException("역 정보가 필요합니다");
+        }
+
+        if (stationRegistry.isLoaded()) {
+            StationRegistry.StationEntry entry = stationId != null ? stationRegistry.findByStationId(stationId) : null;
+            if (entry == null && StringUtils.hasText(stationName) && lineNumber != null) {
+                entry = stationRegistry.findByNameAndLine(stationName, lineNumber);
+            }
+            if (entry == null) {
+                throw new ResourceNotFoundException("역을 찾을 수 없습니다");
+            }
+            return stationRepository.getReferenceById(entry.getStationId());
+        }
+
         if (stationId != null) {
             return stationRepository.findById(stationId)
                     .orElseGet(() -> {
@@ -199,12 +224,8 @@ public class MultiplayerRoomService {
                     });
         }
 
-        if (StringUtils.hasText(stationName) && lineNumber != null) {
-            return stationRepository.findByStaNameAndStaLine(stationName, lineNumber)
-                    .orElseThrow(() -> new ResourceNotFoundException("역을 찾을 수 없습니다"));
-        }
-
-        throw new IllegalArgumentException("역 정보가 필요합니다");
+        return stationRepository.findByStaNameAndStaLine(stationName, lineNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("역을 찾을 수 없습니다"));
     }
 
     @Transactional(readOnly = true)
@@ -270,6 +291,8 @@ public class MultiplayerRoomService {
             try {
                 participant.leave();
                 participantRepository.save(participant);
+                rosterCache.invalidate(participant.getRoom().getRoomId());
+                membershipIndex.removeMember(participant.getRoom().getRoomId(), user.getUserId());
 
                 MultiplayerRoom room = participant.getRoom();
                 long activeCount = participantRepository.countActiveParticipantsByRoomId(room.getRoomId());
@@ -2,54 +2,183 @@ package com.example.backend.service.multiplayer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RateLimiter {
 
-    private static final long MESSAGE_INTERVAL_MS = 2000;
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local interval = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) " +
+            "local ts = tonumber(state[2]) " +
+            "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) / interval) " +
+            "local allowed = 0 " +
+            "local cooldown = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 " +
+            "else cooldown = math.ceil((1 - tokens) * interval) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * interval) + 1000) " +
+            "return {allowed, cooldown}", List.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
-    public boolean allowMessage(Long userId) {
-        String key = "user:" + userId + ":last_message";
+    @Value("${behindy.rate-limit.chat.capacity:1}")
+    private int chatCapacity;
 
-        String lastTimeStr = redisTemplate.opsForValue().get(key);
-        long now = System.currentTimeMillis();
+    @Value("${behindy.rate-limit.chat.refill-interval:2000}")
+    private long chatRefillIntervalMs;
+
+    @Value("${behindy.rate-limit.action.capacity:1}")
+    private int actionCapacity;
+
+    @Value("${behindy.rate-limit.action.refill-interval:5000}")
+    private long actionRefillIntervalMs;
+
+    @Value("${behindy.rate-limit.vote.capacity:3}")
+    private int voteCapacity;
+
+    @Value("${behindy.rate-limit.vote.refill-interval:1000}")
+    private long voteRefillIntervalMs;
+
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong localRejectedCount = new AtomicLong(0);
+    private final AtomicLong redisRejectedCount = new AtomicLong(0);
+    private final AtomicLong redisFailureCount = new AtomicLong(0);
+
+    public Decision tryAcquire(Long userId, BucketType type) {
+        int capacity = capacityOf(type);
+        long refillIntervalMs = refillIntervalOf(type);
+        String key = "rate:" + type.name().toLowerCase() + ":" + userId;
+
+        LocalBucket localBucket = localBuckets.computeIfAbsent(key, k -> new LocalBucket(capacity, refillIntervalMs));
+        long localCooldown = localBucket.tryConsume(System.currentTimeMillis());
+        if (localCooldown > 0) {
+            localRejectedCount.incrementAndGet();
+            return new Decision(false, localCooldown);
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(capacity), String.valueOf(refillIntervalMs));
+            if (result == null || result.size() < 2) {
+                throw new IllegalStateException("토큰 버킷 스크립트 응답이 올바르지 않습니다");
+            }
 
-        if (lastTimeStr != null) {
-            long lastTime = Long.parseLong(lastTimeStr);
-            if (now - lastTime < MESSAGE_INTERVAL_MS) {
-                return false;
+            boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+            if (!allowed) {
+                localBucket.refund();
+                redisRejectedCount.incrementAndGet();
+                return new Decision(false, ((Number) result.get(1)).longValue());
             }
+            return new Decision(true, 0);
+        } catch (Exception e) {
+            redisFailureCount.incrementAndGet();
+            log.warn("Redis 속도 제한 확인 실패, 로컬 버킷으로 대체: key={}, error={}", key, e.getMessage());
+            return new Decision(true, 0);
         }
+    }
 
-        redisTemplate.opsForValue().set(
-            key,
-            String.valueOf(now),
-            MESSAGE_INTERVAL_MS,
-            TimeUnit.MILLISECONDS
+    public void requirePermit(Long userId, BucketType type) {
+        Decision decision = tryAcquire(userId, type);
+        if (!decision.isAllowed()) {
+            throw new IllegalStateException(decision.getCooldownMs() + "ms 후에 다시 시도해주세요");
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        long now = System.currentTimeMillis();
+        localBuckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+    }
+
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "localBuckets", localBuckets.size(),
+                "localRejected", localRejectedCount.get(),
+                "redisRejected", redisRejectedCount.get(),
+                "redisFailures", redisFailureCount.get()
         );
+    }
 
-        return true;
+    private int capacityOf(BucketType type) {
+        return switch (type) {
+            case CHAT -> chatCapacity;
+            case ACTION -> actionCapacity;
+            case VOTE -> voteCapacity;
+        };
     }
 
-    public long getRemainingCooldown(Long userId) {
-        String key = "user:" + userId + ":last_message";
-        String lastTimeStr = redisTemplate.opsForValue().get(key);
+    private long refillIntervalOf(BucketType type) {
+        return switch (type) {
+            case CHAT -> chatRefillIntervalMs;
+            case ACTION -> actionRefillIntervalMs;
+            case VOTE -> voteRefillIntervalMs;
+        };
+    }
+
+    public enum BucketType {
+        CHAT, ACTION, VOTE
+    }
 
-        if (lastTimeStr == null) {
-            return 0;
+    @lombok.Value
+    public static class Decision {
+        boolean allowed;
+        long cooldownMs;
+    }
+
+    private static class LocalBucket {
+        private final int capacity;
+        private final long refillIntervalMs;
+        private double tokens;
+        private long updatedAt;
+
+        LocalBucket(int capacity, long refillIntervalMs) {
+            this.capacity = capacity;
+            this.refillIntervalMs = refillIntervalMs;
+            this.tokens = capacity;
+            this.updatedAt = System.currentTimeMillis();
         }
 
-        long lastTime = Long.parseLong(lastTimeStr);
-        long now = System.currentTimeMillis();
-        long elapsed = now - lastTime;
+        synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * refillIntervalMs);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
 
-        return Math.max(0, MESSAGE_INTERVAL_MS - elapsed);
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > updatedAt) {
+                tokens = Math.min(capacity, tokens + (double) (now - updatedAt) / refillIntervalMs);
+                updatedAt = now;
+            }
+        }
     }
 }
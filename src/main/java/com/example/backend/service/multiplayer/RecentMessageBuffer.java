@@ -0,0 +1,266 @@
+package com.example.backend.service.multiplayer;
+
+import com.example.backend.dto.multiplayer.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class RecentMessageBuffer {
+
+    @Value("${behindy.chat.recent-buffer.size:200}")
+    private int capacity;
+
+    @Value("${behindy.chat.recent-buffer.idle-timeout:1800000}")
+    private long idleTimeoutMs;
+
+    @Value("${behindy.chat.recent-buffer.unpersisted-grace:5000}")
+    private long unpersistedGraceMs;
+
+    @Value("${behindy.chat.recent-buffer.gap-grace:60000}")
+    private long gapGraceMs;
+
+    private final Map<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+
+    public void append(ChatMessageResponse message) {
+        if (message == null || message.getRoomId() == null || message.getSequence() == null) {
+            return;
+        }
+        rooms.computeIfAbsent(message.getRoomId(), key -> new RoomBuffer(capacity)).put(message);
+    }
+
+    public void skip(Long roomId, long sequence) {
+        rooms.computeIfAbsent(roomId, key -> new RoomBuffer(capacity)).skip(sequence);
+    }
+
+    public void assignMessageId(Long roomId, long sequence, long messageId) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer != null) {
+            buffer.assignMessageId(sequence, messageId);
+        }
+    }
+
+    public void appendAll(List<ChatMessageResponse> messages) {
+        for (ChatMessageResponse message : messages) {
+            append(message);
+        }
+    }
+
+    public void appendRange(Long roomId, Long fromSequence, List<ChatMessageResponse> messages) {
+        appendAll(messages);
+
+        List<ChatMessageResponse> ordered = messages.stream()
+                .filter(message -> message.getSequence() != null)
+                .sorted(Comparator.comparing(ChatMessageResponse::getSequence))
+                .toList();
+        if (ordered.isEmpty()) {
+            return;
+        }
+
+        RoomBuffer buffer = rooms.computeIfAbsent(roomId, key -> new RoomBuffer(capacity));
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(gapGraceMs));
+        long expected = fromSequence != null ? fromSequence : ordered.get(0).getSequence();
+        for (ChatMessageResponse message : ordered) {
+            long sequence = message.getSequence();
+            if (sequence > expected && message.getCreatedAt() != null && message.getCreatedAt().isBefore(settledBefore)) {
+                for (long missing = Math.max(expected, sequence - capacity); missing < sequence; missing++) {
+                    buffer.skip(missing);
+                }
+            }
+            expected = Math.max(expected, sequence + 1);
+        }
+    }
+
+    public List<ChatMessageResponse> tail(Long roomId, int limit, long headSequence) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return null;
+        }
+        return buffer.tail(limit, headSequence, unpersistedBefore());
+    }
+
+    public List<ChatMessageResponse> after(Long roomId, long lastSequence, int limit, long headSequence) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return null;
+        }
+        return buffer.after(lastSequence, limit, headSequence, unpersistedBefore());
+    }
+
+    public Long sequenceOf(Long roomId, Long messageId) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null || messageId == null) {
+            return null;
+        }
+        return buffer.sequenceOf(messageId);
+    }
+
+    private LocalDateTime unpersistedBefore() {
+        return LocalDateTime.now().minus(Duration.ofMillis(unpersistedGraceMs));
+    }
+
+    public void markComplete(Long roomId) {
+        rooms.computeIfAbsent(roomId, key -> new RoomBuffer(capacity)).complete = true;
+    }
+
+    public void evict(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.chat.recent-buffer.idle-timeout:1800000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMs;
+        int before = rooms.size();
+        rooms.entrySet().removeIf(entry -> entry.getValue().lastAccessAt < threshold);
+        int evicted = before - rooms.size();
+        if (evicted > 0) {
+            log.debug("유휴 채팅 버퍼 정리: {}개 방", evicted);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        long buffered = 0;
+        for (RoomBuffer buffer : rooms.values()) {
+            buffered += buffer.size();
+        }
+        return Map.of(
+                "rooms", rooms.size(),
+                "bufferedMessages", buffered,
+                "capacityPerRoom", capacity
+        );
+    }
+
+    private static class RoomBuffer {
+        private final ChatMessageResponse[] slots;
+        private final long[] sequences;
+        private long head = 0;
+        private volatile boolean complete = false;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        RoomBuffer(int capacity) {
+            this.slots = new ChatMessageResponse[capacity];
+            this.sequences = new long[capacity];
+        }
+
+        synchronized void put(ChatMessageResponse message) {
+            store(message.getSequence(), message);
+        }
+
+        synchronized void skip(long sequence) {
+            int slot = slotOf(sequence);
+            if (sequences[slot] != sequence) {
+                store(sequence, null);
+            }
+        }
+
+        synchronized void assignMessageId(long sequence, long messageId) {
+            int slot = slotOf(sequence);
+            ChatMessageResponse message = slots[slot];
+            if (sequences[slot] == sequence && message != null && message.getMessageId() == null) {
+                message.setMessageId(messageId);
+            }
+        }
+
+        synchronized List<ChatMessageResponse> tail(int limit, long headSequence, LocalDateTime unpersistedBefore) {
+            lastAccessAt = System.currentTimeMillis();
+            if (headSequence > head || limit > slots.length) {
+                return null;
+            }
+
+            List<ChatMessageResponse> result = new ArrayList<>(limit);
+            for (long sequence = head; sequence >= 1 && result.size() < limit; sequence--) {
+                if (!collect(sequence, result, unpersistedBefore)) {
+                    return null;
+                }
+            }
+            if (result.size() < limit && !complete) {
+                return null;
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        synchronized List<ChatMessageResponse> after(long lastSequence, int limit, long headSequence,
+                                                     LocalDateTime unpersistedBefore) {
+            lastAccessAt = System.currentTimeMillis();
+            if (headSequence > head || lastSequence < head - slots.length) {
+                return null;
+            }
+
+            List<ChatMessageResponse> result = new ArrayList<>(Math.min(limit, (int) Math.max(head - lastSequence, 0)));
+            for (long sequence = lastSequence + 1; sequence <= head && result.size() < limit; sequence++) {
+                if (!collect(sequence, result, unpersistedBefore)) {
+                    return null;
+                }
+            }
+            return result;
+        }
+
+        synchronized Long sequenceOf(long messageId) {
+            for (ChatMessageResponse message : slots) {
+                if (message != null && message.getMessageId() != null && message.getMessageId() == messageId) {
+                    return message.getSequence();
+                }
+            }
+            return null;
+        }
+
+        synchronized int size() {
+            int count = 0;
+            for (ChatMessageResponse message : slots) {
+                if (message != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void store(long sequence, ChatMessageResponse message) {
+            lastAccessAt = System.currentTimeMillis();
+            if (sequence <= head - slots.length) {
+                return;
+            }
+            int slot = slotOf(sequence);
+            sequences[slot] = sequence;
+            slots[slot] = message;
+            if (sequence > head) {
+                head = sequence;
+            }
+        }
+
+        private boolean collect(long sequence, List<ChatMessageResponse> result, LocalDateTime unpersistedBefore) {
+            if (sequence <= head - slots.length) {
+                return false;
+            }
+            int slot = slotOf(sequence);
+            if (sequences[slot] != sequence) {
+                return false;
+            }
+            ChatMessageResponse message = slots[slot];
+            if (message == null) {
+                return true;
+            }
+            if (message.getMessageId() == null
+                    && (message.getCreatedAt() == null || message.getCreatedAt().isBefore(unpersistedBefore))) {
+                return false;
+            }
+            result.add(message);
+            return true;
+        }
+
+        private int slotOf(long sequence) {
+            return (int) Math.floorMod(sequence, (long) slots.length);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.backend.service.multiplayer;
+
+import com.example.backend.repository.multiplayer.RoomParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomMembershipIndex {
+
+    private static final String MEMBERS_KEY_PREFIX = "room:";
+    private static final String MEMBERS_KEY_SUFFIX = ":members";
+    private static final String VERSION_KEY_SUFFIX = ":members:ver";
+    private static final String CHANNEL = "room:membership";
+    private static final String SENTINEL = "_";
+    private static final long VERSION_TTL_MS = 24L * 60 * 60 * 1000;
+
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private static final DefaultRedisScript<Long> MUTATE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if ARGV[1] == 'add' then redis.call('SADD', KEYS[1], ARGV[2]) " +
+            "  else redis.call('SREM', KEYS[1], ARGV[2]) end " +
+            "end " +
+            "return version", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RoomParticipantRepository participantRepository;
+
+    @Value("${behindy.room-membership.local-ttl:60000}")
+    private long localTtlMs;
+
+    @Value("${behindy.room-membership.redis-ttl:600000}")
+    private long redisTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Members> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong localHits = new AtomicLong(0);
+    private final AtomicLong redisLoads = new AtomicLong(0);
+    private final AtomicLong databaseLoads = new AtomicLong(0);
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                forget(Long.parseLong(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 방 멤버십 변경 알림: {}", body);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isMember(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+        return membersOf(roomId).contains(userId);
+    }
+
+    public int countMembers(Long roomId) {
+        return membersOf(roomId).size();
+    }
+
+    public void addMember(Long roomId, Long userId) {
+        afterCommit(() -> apply(roomId, userId, true));
+    }
+
+    public void removeMember(Long roomId, Long userId) {
+        afterCommit(() -> apply(roomId, userId, false));
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.room-membership.local-ttl:60000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - localTtlMs;
+        rooms.entrySet().removeIf(entry -> entry.getValue().loadedAt() < threshold);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("cachedRooms", rooms.size());
+        statistics.put("localHits", localHits.get());
+        statistics.put("redisLoads", redisLoads.get());
+        statistics.put("databaseLoads", databaseLoads.get());
+        return statistics;
+    }
+
+    private Set<Long> membersOf(Long roomId) {
+        long now = System.currentTimeMillis();
+        Members cached = rooms.get(roomId);
+        if (cached != null && now - cached.loadedAt < localTtlMs) {
+            localHits.incrementAndGet();
+            return cached.userIds;
+        }
+
+        AtomicLong version = versionOf(roomId);
+        long localVersion = version.get();
+        Set<Long> userIds = load(roomId);
+        if (version.get() == localVersion) {
+            rooms.put(roomId, new Members(userIds, now));
+        }
+        return userIds;
+    }
+
+    private Set<Long> load(Long roomId) {
+        try {
+            Set<String> mirrored = redisTemplate.opsForSet().members(membersKey(roomId));
+            if (mirrored != null && mirrored.contains(SENTINEL)) {
+                redisLoads.incrementAndGet();
+                Set<Long> userIds = ConcurrentHashMap.newKeySet();
+                for (String member : mirrored) {
+                    if (!SENTINEL.equals(member)) {
+                        userIds.add(Long.parseLong(member));
+                    }
+                }
+                return userIds;
+            }
+
+            String redisVersion = redisTemplate.opsForValue().get(versionKey(roomId));
+            Set<Long> userIds = loadFromDatabase(roomId);
+
+            List<String> args = new ArrayList<>(userIds.size() + 3);
+            args.add(redisVersion != null ? redisVersion : "0");
+            args.add(String.valueOf(redisTtlMs));
+            args.add(SENTINEL);
+            for (Long userId : userIds) {
+                args.add(String.valueOf(userId));
+            }
+            redisTemplate.execute(SEED_SCRIPT, List.of(membersKey(roomId), versionKey(roomId)), args.toArray());
+            return userIds;
+        } catch (Exception e) {
+            log.warn("방 멤버십 Redis 조회 실패, DB 조회로 대체: roomId={}, error={}", roomId, e.getMessage());
+            return loadFromDatabase(roomId);
+        }
+    }
+
+    private Set<Long> loadFromDatabase(Long roomId) {
+        databaseLoads.incrementAndGet();
+        Set<Long> userIds = ConcurrentHashMap.newKeySet();
+        userIds.addAll(participantRepository.findActiveUserIds(roomId));
+        return userIds;
+    }
+
+    private void apply(Long roomId, Long userId, boolean add) {
+        versionOf(roomId).incrementAndGet();
+        Members cached = rooms.get(roomId);
+        if (cached != null) {
+            if (add) {
+                cached.userIds.add(userId);
+            } else {
+                cached.userIds.remove(userId);
+            }
+        }
+
+        try {
+            redisTemplate.execute(MUTATE_SCRIPT, List.of(membersKey(roomId), versionKey(roomId)),
+                    add ? "add" : "remove", String.valueOf(userId), String.valueOf(VERSION_TTL_MS));
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + roomId);
+        } catch (Exception e) {
+            log.warn("방 멤버십 Redis 반영 실패: roomId={}, userId={}, error={}", roomId, userId, e.getMessage());
+        }
+    }
+
+    private void forget(Long roomId) {
+        versionOf(roomId).incrementAndGet();
+        rooms.remove(roomId);
+    }
+
+    private AtomicLong versionOf(Long roomId) {
+        return versions.computeIfAbsent(roomId, key -> new AtomicLong());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String membersKey(Long roomId) {
+        return MEMBERS_KEY_PREFIX + roomId + MEMBERS_KEY_SUFFIX;
+    }
+
+    private static String versionKey(Long roomId) {
+        return MEMBERS_KEY_PREFIX + roomId + VERSION_KEY_SUFFIX;
+    }
+
+    private record Members(Set<Long> userIds, long loadedAt) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.backend.service.multiplayer;
+
+import com.example.backend.entity.multiplayer.MultiplayerRoom;
+import com.example.backend.entity.multiplayer.RoomParticipant;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.multiplayer.MultiplayerRoomRepository;
+import com.example.backend.repository.multiplayer.RoomParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomRosterCache {
+
+    private static final String CHANNEL = "room:roster";
+
+    private final MultiplayerRoomRepository roomRepository;
+    private final RoomParticipantRepository participantRepository;
+    private final RoomMembershipIndex membershipIndex;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${behindy.chat.roster-ttl:30000}")
+    private long rosterTtlMs;
+
+    @Value("${behindy.chat.roster-miss-reload-interval:1000}")
+    private long missReloadIntervalMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Roster> rosters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                rosters.remove(Long.parseLong(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 방 명단 무효화 알림: {}", body);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    @Transactional(readOnly = true)
+    public Roster getRoster(Long roomId) {
+        long now = System.currentTimeMillis();
+        Roster cached = rosters.get(roomId);
+        if (cached != null && now - cached.loadedAt < rosterTtlMs) {
+            return cached;
+        }
+        return load(roomId, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Speaker requireSpeaker(Long roomId, Long userId) {
+        if (!membershipIndex.isMember(roomId, userId)) {
+            throw new IllegalStateException("방 참가자만 메시지를 보낼 수 있습니다");
+        }
+
+        Roster roster = getRoster(roomId);
+        Speaker speaker = roster.speakers.get(userId);
+
+        long now = System.currentTimeMillis();
+        if (speaker == null && now - roster.loadedAt >= missReloadIntervalMs) {
+            speaker = load(roomId, now).speakers.get(userId);
+        }
+        if (speaker == null) {
+            throw new IllegalStateException("방 참가자만 메시지를 보낼 수 있습니다");
+        }
+        return speaker;
+    }
+
+    public void invalidate(Long roomId) {
+        if (roomId == null) {
+            return;
+        }
+
+        rosters.remove(roomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rosters.remove(roomId);
+                    publish(roomId);
+                }
+            });
+        } else {
+            publish(roomId);
+        }
+    }
+
+    private void publish(Long roomId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + roomId);
+        } catch (Exception e) {
+            log.warn("방 명단 무효화 전파 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    private Roster load(Long roomId, long now) {
+        MultiplayerRoom room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("방을 찾을 수 없습니다"));
+
+        Map<Long, Speaker> speakers = new HashMap<>();
+        for (RoomParticipant participant : participantRepository.findActiveRoster(roomId)) {
+            speakers.put(participant.getUser().getUserId(), new Speaker(
+                    participant.getUser().getUserId(),
+                    participant.getUser().getUserName(),
+                    participant.getCharacter() != null ? participant.getCharacter().getCharName() : null));
+        }
+
+        Roster roster = new Roster(roomId, room.getCurrentPhase(), Map.copyOf(speakers), now);
+        rosters.put(roomId, roster);
+        return roster;
+    }
+
+    @lombok.Value
+    public static class Roster {
+        Long roomId;
+        Integer phase;
+        Map<Long, Speaker> speakers;
+        long loadedAt;
+    }
+
+    @lombok.Value
+    public static class Speaker {
+        Long userId;
+        String username;
+        String characterName;
+    }
+}
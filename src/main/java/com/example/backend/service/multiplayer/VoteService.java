@@ -27,9 +27,14 @@ public class VoteService {
     private final MultiplayerRoomRepository roomRepository;
     private final RoomParticipantRepository participantRepository;
     private final UserRepository userRepository;
+    private final RoomMembershipIndex membershipIndex;
+    private final RoomRosterCache rosterCache;
+    private final RateLimiter rateLimiter;
 
     @Transactional
     public Long startKickVote(Long roomId, Long targetUserId, Long userId) {
+        rateLimiter.requirePermit(userId, RateLimiter.BucketType.VOTE);
+
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
@@ -44,9 +49,7 @@ public class VoteService {
             throw new IllegalArgumentException("자기 자신을 추방할 수 없습니다");
         }
 
-        boolean targetIsParticipant = participantRepository
-                .existsByRoomIdAndUserId(roomId, targetUserId);
-        if (!targetIsParticipant) {
+        if (!membershipIndex.isMember(roomId, targetUserId)) {
             throw new IllegalArgumentException("대상자가 방 참가자가 아닙니다");
         }
 
@@ -77,15 +80,15 @@ public class VoteService {
 
     @Transactional
     public Long startActionVote(Long roomId, Long userId) {
+        rateLimiter.requirePermit(userId, RateLimiter.BucketType.ACTION);
+
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
         MultiplayerRoom room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("방을 찾을 수 없습니다"));
 
-        boolean isParticipant = participantRepository
-                .existsByRoomIdAndUserId(roomId, userId);
-        if (!isParticipant) {
+        if (!membershipIndex.isMember(roomId, userId)) {
             throw new IllegalStateException("방 참가자만 행동하기 투표를 시작할 수 있습니다");
         }
 
@@ -93,7 +96,7 @@ public class VoteService {
             throw new IllegalStateException("이미 진행 중인 투표가 있습니다");
         }
 
-        long activeParticipants = participantRepository.countActiveParticipantsByRoomId(roomId);
+        long activeParticipants = membershipIndex.countMembers(roomId);
 
         if (activeParticipants == 1) {
             LocalDateTime now = LocalDateTime.now();
@@ -148,6 +151,8 @@ public class VoteService {
 
     @Transactional
     public VoteResult submitBallot(Long voteId, boolean voteValue, Long userId) {
+        rateLimiter.requirePermit(userId, RateLimiter.BucketType.VOTE);
+
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
@@ -170,9 +175,7 @@ public class VoteService {
             throw new IllegalArgumentException("투표 대상자는 투표할 수 없습니다");
         }
 
-        boolean isParticipant = participantRepository
-                .existsByRoomIdAndUserId(vote.getRoom().getRoomId(), currentUser.getUserId());
-        if (!isParticipant) {
+        if (!membershipIndex.isMember(vote.getRoom().getRoomId(), currentUser.getUserId())) {
             throw new IllegalStateException("방 참가자만 투표할 수 있습니다");
         }
 
@@ -188,8 +191,7 @@ public class VoteService {
 
         ballotRepository.save(ballot);
 
-        long activeParticipants = participantRepository
-                .countActiveParticipantsByRoomId(vote.getRoom().getRoomId());
+        long activeParticipants = membershipIndex.countMembers(vote.getRoom().getRoomId());
         long requiredVotes;
         if (vote.getVoteType() == VoteType.KICK) {
             requiredVotes = activeParticipants - 1;
@@ -224,6 +226,8 @@ public class VoteService {
                             .orElseThrow();
                     targetParticipant.leave();
                     participantRepository.save(targetParticipant);
+                    rosterCache.invalidate(vote.getRoom().getRoomId());
+                    membershipIndex.removeMember(vote.getRoom().getRoomId(), vote.getTargetUser().getUserId());
                 }
             } else {
                 vote.fail();
@@ -286,7 +290,7 @@ public class VoteService {
     private RoomVoteResponse toResponse(RoomVote vote) {
         long yesCount = ballotRepository.countYesVotes(vote.getVoteId());
         long noCount = ballotRepository.countNoVotes(vote.getVoteId());
-        long activeParticipants = participantRepository.countActiveParticipantsByRoomId(vote.getRoom().getRoomId());
+        long activeParticipants = membershipIndex.countMembers(vote.getRoom().getRoomId());
 
         long requiredVotes;
         if (vote.getVoteType() == VoteType.KICK) {
@@ -0,0 +1,48 @@
+package com.example.backend.service.telemetry;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class GameTelemetryRecord {
+
+    public enum Type {
+        PLAY_LOG,
+        CHOICE,
+        PLAY_LOG_LINK
+    }
+
+    Type type;
+    Long characterId;
+    Long pageId;
+    Long optionId;
+    Long durationMs;
+    Long logeId;
+
+    public static GameTelemetryRecord playLog(Long characterId, long pageId, long optionId, long durationMs) {
+        return GameTelemetryRecord.builder()
+                .type(Type.PLAY_LOG)
+                .characterId(characterId)
+                .pageId(pageId)
+                .optionId(optionId)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    public static GameTelemetryRecord choice(Long characterId, long optionId) {
+        return GameTelemetryRecord.builder()
+                .type(Type.CHOICE)
+                .characterId(characterId)
+                .optionId(optionId)
+                .build();
+    }
+
+    public static GameTelemetryRecord playLogLink(Long characterId, Long logeId) {
+        return GameTelemetryRecord.builder()
+                .type(Type.PLAY_LOG_LINK)
+                .characterId(characterId)
+                .logeId(logeId)
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.backend.service.telemetry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameTelemetryService {
+
+    private final GameTelemetryWriter telemetryWriter;
+
+    @Value("${behindy.telemetry.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${behindy.telemetry.batch-size:200}")
+    private int batchSize;
+
+    @Value("${behindy.telemetry.link-offer-timeout:500}")
+    private long linkOfferTimeoutMs;
+
+    private BlockingQueue<GameTelemetryRecord> queue;
+    private ExecutorService flushExecutor;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicLong enqueuedCount = new AtomicLong(0);
+    private final AtomicLong droppedCount = new AtomicLong(0);
+    private final AtomicLong flushedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final AtomicLong flushCount = new AtomicLong(0);
+    private final AtomicLong linkedPlayLogCount = new AtomicLong(0);
+    private volatile LocalDateTime lastFlushTime = null;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-telemetry-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("게임 텔레메트리 큐 초기화: capacity={}, batchSize={}", queueCapacity, batchSize);
+    }
+
+    public void recordPlayLog(Long characterId, long pageId, long optionId, long durationMs) {
+        enqueueAfterCommit(GameTelemetryRecord.playLog(characterId, pageId, optionId, durationMs));
+    }
+
+    public void recordChoice(Long characterId, long optionId) {
+        enqueueAfterCommit(GameTelemetryRecord.choice(characterId, optionId));
+    }
+
+    public void linkPlayLogs(Long characterId, Long logeId) {
+        enqueueAfterCommit(GameTelemetryRecord.playLogLink(characterId, logeId));
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.telemetry.flush-interval:1000}")
+    public void scheduledFlush() {
+        if (!queue.isEmpty()) {
+            requestFlush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("텔레메트리 플러시 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = queue.size();
+        drainQueue();
+        log.info("게임 텔레메트리 종료 처리 완료: 잔여 {}건 기록, 누적 드롭 {}건", remaining, droppedCount.get());
+    }
+
+    public TelemetryStatistics getStatistics() {
+        return TelemetryStatistics.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queueCapacity)
+                .enqueuedCount(enqueuedCount.get())
+                .droppedCount(droppedCount.get())
+                .flushedCount(flushedCount.get())
+                .failedCount(failedCount.get())
+                .flushCount(flushCount.get())
+                .linkedPlayLogCount(linkedPlayLogCount.get())
+                .lastFlushTime(lastFlushTime)
+                .build();
+    }
+
+    private void enqueueAfterCommit(GameTelemetryRecord record) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(record);
+                }
+            });
+            return;
+        }
+
+        enqueue(record);
+    }
+
+    private void enqueue(GameTelemetryRecord record) {
+        boolean accepted = queue.offer(record);
+
+        if (!accepted && record.getType() == GameTelemetryRecord.Type.PLAY_LOG_LINK) {
+            requestFlush();
+            try {
+                accepted = queue.offer(record, linkOfferTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!accepted) {
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped == 1 || dropped % 1000 == 0) {
+                log.warn("텔레메트리 큐 포화로 기록 드롭: type={}, charId={}, 누적 드롭={}",
+                        record.getType(), record.getCharacterId(), dropped);
+            }
+            return;
+        }
+
+        enqueuedCount.incrementAndGet();
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                drainQueue();
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    private void drainQueue() {
+        List<GameTelemetryRecord> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flushBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void flushBatch(List<GameTelemetryRecord> batch) {
+        try {
+            GameTelemetryWriter.BatchResult result = telemetryWriter.writeBatch(batch);
+            flushedCount.addAndGet(batch.size());
+            linkedPlayLogCount.addAndGet(result.getLinkedCount());
+            flushCount.incrementAndGet();
+            lastFlushTime = LocalDateTime.now();
+        } catch (Exception e) {
+            log.warn("텔레메트리 배치 기록 실패 - 개별 기록으로 재시도: size={}, error={}", batch.size(), e.getMessage());
+            writeIndividually(batch);
+        }
+    }
+
+    private void writeIndividually(List<GameTelemetryRecord> batch) {
+        for (GameTelemetryRecord record : batch) {
+            try {
+                GameTelemetryWriter.BatchResult result = telemetryWriter.writeBatch(List.of(record));
+                flushedCount.incrementAndGet();
+                linkedPlayLogCount.addAndGet(result.getLinkedCount());
+            } catch (Exception e) {
+                failedCount.incrementAndGet();
+                log.error("텔레메트리 기록 폐기: type={}, charId={}, error={}",
+                        record.getType(), record.getCharacterId(), e.getMessage());
+            }
+        }
+        flushCount.incrementAndGet();
+        lastFlushTime = LocalDateTime.now();
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class TelemetryStatistics {
+        private int queueDepth;
+        private int queueCapacity;
+        private long enqueuedCount;
+        private long droppedCount;
+        private long flushedCount;
+        private long failedCount;
+        private long flushCount;
+        private long linkedPlayLogCount;
+        private LocalDateTime lastFlushTime;
+    }
+}
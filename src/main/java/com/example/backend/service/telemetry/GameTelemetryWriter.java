@@ -0,0 +1,87 @@
+package com.example.backend.service.telemetry;
+
+import com.example.backend.entity.LogO;
+import com.example.backend.entity.OpsLogB;
+import com.example.backend.repository.CharacterRepository;
+import com.example.backend.repository.LogERepository;
+import com.example.backend.repository.LogORepository;
+import com.example.backend.repository.OpsLogBRepository;
+import com.example.backend.repository.OptionsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameTelemetryWriter {
+
+    private final OpsLogBRepository opsLogBRepository;
+    private final LogORepository logORepository;
+    private final LogERepository logERepository;
+    private final CharacterRepository characterRepository;
+    private final OptionsRepository optionsRepository;
+
+    @Transactional
+    public BatchResult writeBatch(List<GameTelemetryRecord> records) {
+        List<OpsLogB> playLogs = new ArrayList<>();
+        List<LogO> choiceLogs = new ArrayList<>();
+        int written = 0;
+        int linked = 0;
+
+        for (GameTelemetryRecord record : records) {
+            switch (record.getType()) {
+                case PLAY_LOG -> playLogs.add(OpsLogB.builder()
+                        .character(characterRepository.getReferenceById(record.getCharacterId()))
+                        .loge(null)
+                        .logbPage(record.getPageId())
+                        .logbOpt(record.getOptionId())
+                        .logbDur(record.getDurationMs())
+                        .build());
+                case CHOICE -> choiceLogs.add(LogO.builder()
+                        .character(characterRepository.getReferenceById(record.getCharacterId()))
+                        .options(optionsRepository.getReferenceById(record.getOptionId()))
+                        .build());
+                case PLAY_LOG_LINK -> {
+                    written += flushPending(playLogs, choiceLogs);
+                    linked += linkPlayLogs(record.getCharacterId(), record.getLogeId());
+                }
+            }
+        }
+
+        written += flushPending(playLogs, choiceLogs);
+        return new BatchResult(written, linked);
+    }
+
+    private int flushPending(List<OpsLogB> playLogs, List<LogO> choiceLogs) {
+        int count = playLogs.size() + choiceLogs.size();
+
+        if (!playLogs.isEmpty()) {
+            opsLogBRepository.saveAll(playLogs);
+            playLogs.clear();
+        }
+        if (!choiceLogs.isEmpty()) {
+            logORepository.saveAll(choiceLogs);
+            choiceLogs.clear();
+        }
+
+        return count;
+    }
+
+    private int linkPlayLogs(Long characterId, Long logeId) {
+        int linkedCount = opsLogBRepository.linkUnlinkedPlayLogs(characterId, logERepository.getReferenceById(logeId));
+
+        log.info("플레이 로그 연결 완료: charId={}, logeId={}, count={}", characterId, logeId, linkedCount);
+        return linkedCount;
+    }
+
+    @lombok.Value
+    public static class BatchResult {
+        int writtenCount;
+        int linkedCount;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.websocket;
+
+import com.example.backend.service.multiplayer.RoomMembershipIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMembershipInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC_PREFIX = "/topic/room/";
+    private static final String APP_PREFIX = "/app/room/";
+    private static final List<String> BROKER_PREFIXES = List.of("/topic/", "/queue/", "/user/");
+
+    private final RoomMembershipIndex membershipIndex;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        if (type != SimpMessageType.SUBSCRIBE && type != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (type == SimpMessageType.MESSAGE && isBrokerDestination(destination)) {
+            rejectedCount.incrementAndGet();
+            log.warn("브로커 목적지로의 클라이언트 직접 전송 차단: destination={}, userId={}", destination, userIdOf(accessor));
+            return null;
+        }
+
+        Long roomId = type == SimpMessageType.SUBSCRIBE ?
+                roomIdOf(destination, TOPIC_PREFIX) : roomIdOf(destination, APP_PREFIX);
+        if (roomId == null) {
+            return message;
+        }
+
+        Long userId = userIdOf(accessor);
+        if (userId != null && membershipIndex.isMember(roomId, userId)) {
+            return message;
+        }
+
+        rejectedCount.incrementAndGet();
+        log.warn("방 참가자가 아닌 사용자의 STOMP 요청 차단: type={}, destination={}, userId={}", type, destination, userId);
+        if (userId != null) {
+            sendError(userId, type == SimpMessageType.SUBSCRIBE ?
+                    "방 참가자만 구독할 수 있습니다" : "방 참가자만 메시지를 보낼 수 있습니다");
+        }
+        return null;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void sendError(Long userId, String errorMessage) {
+        try {
+            messagingTemplateProvider.getObject().convertAndSendToUser(
+                    userId.toString(),
+                    "/queue/errors",
+                    Map.of("type", "error", "message", errorMessage));
+        } catch (Exception e) {
+            log.error("Failed to send error to user: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isBrokerDestination(String destination) {
+        return destination != null && BROKER_PREFIXES.stream().anyMatch(destination::startsWith);
+    }
+
+    private static Long roomIdOf(String destination, String prefix) {
+        if (destination == null || !destination.startsWith(prefix)) {
+            return null;
+        }
+
+        int start = prefix.length();
+        int end = destination.indexOf('/', start);
+        String roomId = end < 0 ? destination.substring(start) : destination.substring(start, end);
+        try {
+            return Long.parseLong(roomId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long userIdOf(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object userId = sessionAttributes != null ? sessionAttributes.get("userId") : null;
+        return userId instanceof Long id ? id : null;
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.backend.websocket;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompRedisRelay implements ChannelInterceptor {
+
+    public static final String RELAY_ORIGIN_HEADER = "stompRelayOrigin";
+
+    private static final String RELAY_CHANNEL = "stomp:relay";
+    private static final String INTEREST_KEY_PREFIX = "stomp:relay:interest:";
+    private static final byte[] RELAY_CHANNEL_BYTES = RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8);
+    private static final byte TYPE_MESSAGE = 0;
+    private static final byte TYPE_INTEREST = 1;
+    private static final String USER_PREFIX = "/user/";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Value("${behindy.stomp-relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${behindy.stomp-relay.topic-prefixes:/topic/room/}")
+    private List<String> topicPrefixes;
+
+    @Value("${behindy.stomp-relay.interest-ttl:45000}")
+    private long interestTtlMs;
+
+    @Value("${behindy.stomp-relay.interest-cache-ttl:2000}")
+    private long interestCacheTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Integer> localInterest = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, RemoteInterest> remoteInterest = new ConcurrentHashMap<>();
+    private final AtomicLong publishedCount = new AtomicLong(0);
+    private final AtomicLong skippedCount = new AtomicLong(0);
+    private final AtomicLong receivedCount = new AtomicLong(0);
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this::onRelayMessage, new ChannelTopic(RELAY_CHANNEL));
+            log.info("STOMP Redis 릴레이 활성화: nodeId={}, topics={}", nodeId, topicPrefixes);
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        if (type == null) {
+            return message;
+        }
+
+        switch (type) {
+            case SUBSCRIBE -> trackSubscription(accessor);
+            case UNSUBSCRIBE -> untrackSubscription(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> untrackSession(accessor.getSessionId());
+            case MESSAGE -> relay(message, accessor);
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    @Scheduled(fixedDelayString = "${behindy.stomp-relay.heartbeat-interval:15000}")
+    public void heartbeat() {
+        if (!enabled || localInterest.isEmpty()) {
+            return;
+        }
+
+        Set<String> keys = Set.copyOf(localInterest.keySet());
+        long expiresAt = System.currentTimeMillis() + interestTtlMs;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+                for (String key : keys) {
+                    byte[] redisKey = (INTEREST_KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zAdd(redisKey, expiresAt, member);
+                    connection.keyCommands().pExpire(redisKey, interestTtlMs * 2);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("STOMP 릴레이 구독 정보 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("nodeId", nodeId);
+        statistics.put("localInterests", localInterest.size());
+        statistics.put("sessions", sessionSubscriptions.size());
+        statistics.put("published", publishedCount.get());
+        statistics.put("localOnly", skippedCount.get());
+        statistics.put("received", receivedCount.get());
+        return statistics;
+    }
+
+    private void relay(Message<?> message, SimpMessageHeaderAccessor accessor) {
+        if (accessor.getHeader(RELAY_ORIGIN_HEADER) != null || !(message.getPayload() instanceof byte[] payload)) {
+            return;
+        }
+
+        String destination = accessor.getDestination();
+        String interestKey = messageKeyOf(destination);
+        if (interestKey == null) {
+            return;
+        }
+
+        if (!hasRemoteInterest(interestKey)) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        publish(TYPE_MESSAGE, destination, contentType != null ? contentType.toString() : "", payload);
+        publishedCount.incrementAndGet();
+    }
+
+    private void onRelayMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getBody()))) {
+            byte type = in.readByte();
+            String origin = in.readUTF();
+            String target = in.readUTF();
+            String contentType = in.readUTF();
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+
+            if (nodeId.equals(origin)) {
+                return;
+            }
+
+            if (type == TYPE_INTEREST) {
+                remoteInterest.remove(target);
+                return;
+            }
+
+            String interestKey = messageKeyOf(target);
+            if (interestKey == null || !localInterest.containsKey(interestKey)) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(target);
+            if (!contentType.isEmpty()) {
+                accessor.setContentType(MimeType.valueOf(contentType));
+            }
+            accessor.setHeader(RELAY_ORIGIN_HEADER, origin);
+            accessor.setLeaveMutable(true);
+
+            messagingTemplateProvider.getObject()
+                    .send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            receivedCount.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("STOMP 릴레이 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void trackSubscription(SimpMessageHeaderAccessor accessor) {
+        String sessionId = accessor.getSessionId();
+        String interestKey = subscriptionKeyOf(accessor.getDestination(), accessor.getUser());
+        if (sessionId == null || accessor.getSubscriptionId() == null || interestKey == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), interestKey);
+        if (previous != null) {
+            removeInterest(previous);
+        }
+        addInterest(interestKey);
+    }
+
+    private void untrackSubscription(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionId != null ? sessionSubscriptions.get(sessionId) : null;
+        if (subscriptions == null || subscriptionId == null) {
+            return;
+        }
+
+        String interestKey = subscriptions.remove(subscriptionId);
+        if (interestKey != null) {
+            removeInterest(interestKey);
+        }
+    }
+
+    private void untrackSession(String sessionId) {
+        Map<String, String> subscriptions = sessionId != null ? sessionSubscriptions.remove(sessionId) : null;
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::removeInterest);
+        }
+    }
+
+    private void addInterest(String interestKey) {
+        if (localInterest.merge(interestKey, 1, Integer::sum) == 1) {
+            announce(interestKey, true);
+        }
+    }
+
+    private void removeInterest(String interestKey) {
+        if (localInterest.computeIfPresent(interestKey, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            announce(interestKey, false);
+        }
+    }
+
+    private void announce(String interestKey, boolean interested) {
+        String redisKey = INTEREST_KEY_PREFIX + interestKey;
+        try {
+            if (interested) {
+                redisTemplate.opsForZSet().add(redisKey, nodeId, System.currentTimeMillis() + interestTtlMs);
+                redisTemplate.expire(redisKey, Duration.ofMillis(interestTtlMs * 2));
+            } else {
+                redisTemplate.opsForZSet().remove(redisKey, nodeId);
+            }
+            publish(TYPE_INTEREST, interestKey, "", new byte[0]);
+        } catch (Exception e) {
+            log.warn("STOMP 릴레이 구독 정보 등록 실패: key={}, error={}", interestKey, e.getMessage());
+        }
+    }
+
+    private boolean hasRemoteInterest(String interestKey) {
+        long now = System.currentTimeMillis();
+        RemoteInterest cached = remoteInterest.get(interestKey);
+        if (cached != null && now - cached.checkedAt < interestCacheTtlMs) {
+            return cached.present;
+        }
+
+        boolean present;
+        try {
+            Set<String> nodes = redisTemplate.opsForZSet()
+                    .rangeByScore(INTEREST_KEY_PREFIX + interestKey, now, Double.POSITIVE_INFINITY);
+            present = nodes != null && nodes.stream().anyMatch(node -> !nodeId.equals(node));
+        } catch (Exception e) {
+            log.warn("STOMP 릴레이 구독 정보 조회 실패 - 릴레이 수행: key={}, error={}", interestKey, e.getMessage());
+            return true;
+        }
+
+        remoteInterest.put(interestKey, new RemoteInterest(present, now));
+        return present;
+    }
+
+    private void publish(byte type, String target, String contentType, byte[] payload) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length + 128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(type);
+            out.writeUTF(nodeId);
+            out.writeUTF(target);
+            out.writeUTF(contentType);
+            out.writeInt(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] body = buffer.toByteArray();
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(RELAY_CHANNEL_BYTES, body));
+        } catch (Exception e) {
+            log.warn("STOMP 릴레이 발행 실패: target={}, error={}", target, e.getMessage());
+        }
+    }
+
+    private String subscriptionKeyOf(String destination, Principal user) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(USER_PREFIX)) {
+            return user != null ? "user:" + user.getName() : null;
+        }
+        return topicKeyOf(destination);
+    }
+
+    private String messageKeyOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(USER_PREFIX)) {
+            int slash = destination.indexOf('/', USER_PREFIX.length());
+            return slash > USER_PREFIX.length() ? "user:" + destination.substring(USER_PREFIX.length(), slash) : null;
+        }
+        return topicKeyOf(destination);
+    }
+
+    private String topicKeyOf(String destination) {
+        for (String prefix : topicPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return "topic:" + destination;
+            }
+        }
+        return null;
+    }
+
+    private record RemoteInterest(boolean present, long checkedAt) {
+    }
+}
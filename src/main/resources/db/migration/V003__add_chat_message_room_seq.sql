@@ -0,0 +1,8 @@
+-- 방별 단조 증가 메시지 순번 (write-behind 저장 시 중복 방지 키)
+ALTER TABLE chat_message
+ADD COLUMN room_seq BIGINT;
+
+CREATE UNIQUE INDEX uk_message_room_seq
+ON chat_message(room_id, room_seq);
+
+COMMENT ON COLUMN chat_message.room_seq IS 'Per-room monotonic message sequence assigned before persistence';